@@ -0,0 +1,89 @@
+package com.smcompany.backend.dto.response;
+
+import com.smcompany.backend.entity.QnaComment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리 변환 비용.
+ * <p>{@code recursiveFrom} 은 루트 댓글마다 {@link QnaCommentResponse#from} 으로 자식 컬렉션을 재귀 변환하고,
+ * {@code treeFrom} 은 작성 순 전체 목록을 부모 id 로 묶는다 (현재 조회 경로).
+ * wide 는 루트마다 답글 9개, deep 은 루트마다 깊이 10 의 답글 사슬이다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QnaCommentResponseBenchmark {
+
+    private static final int THREAD_SIZE = 10;
+
+    @Param({"100", "1000"})
+    private int comments;
+
+    @Param({"wide", "deep"})
+    private String shape;
+
+    private List<QnaComment> roots;
+    private List<QnaComment> all;
+
+    @Setup
+    public void setUp() {
+        roots = new ArrayList<>();
+        all = new ArrayList<>(comments);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int thread = 0; thread < comments / THREAD_SIZE; thread++) {
+            QnaComment root = comment(null, createdAt);
+            roots.add(root);
+            QnaComment parent = root;
+            for (int i = 1; i < THREAD_SIZE; i++) {
+                QnaComment reply = comment(parent, createdAt);
+                if ("deep".equals(shape)) {
+                    parent = reply;
+                }
+            }
+            createdAt = createdAt.plusMinutes(1);
+        }
+    }
+
+    private QnaComment comment(QnaComment parent, LocalDateTime createdAt) {
+        QnaComment comment = QnaComment.builder()
+                .parent(parent)
+                .authorName("작성자" + all.size())
+                .content("문의 답변 내용입니다. 확인 부탁드립니다. " + all.size())
+                .isAdmin(all.size() % 7 == 0)
+                .build();
+        ReflectionTestUtils.setField(comment, "id", (long) all.size() + 1);
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        if (parent != null) {
+            parent.getChildren().add(comment);
+        }
+        all.add(comment);
+        return comment;
+    }
+
+    @Benchmark
+    public List<QnaCommentResponse> recursiveFrom() {
+        List<QnaCommentResponse> responses = new ArrayList<>(roots.size());
+        for (QnaComment root : roots) {
+            responses.add(QnaCommentResponse.from(root));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<QnaCommentResponse> treeFrom() {
+        return QnaCommentResponse.treeFrom(all);
+    }
+}
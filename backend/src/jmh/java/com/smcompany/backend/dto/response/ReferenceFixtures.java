@@ -0,0 +1,54 @@
+package com.smcompany.backend.dto.response;
+
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import com.smcompany.backend.entity.ReferenceFile;
+import com.smcompany.backend.entity.ReferenceImage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** 벤치마크용 자료 엔티티 (DB 없이 id/생성 일시를 채운 영속 상태와 같은 모양) */
+final class ReferenceFixtures {
+
+    private ReferenceFixtures() {
+    }
+
+    static List<Reference> references(int count, int files, int images) {
+        ReferenceCategory category = ReferenceCategory.builder().name("안전교육").sortOrder(0).build();
+        ReflectionTestUtils.setField(category, "id", 1L);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Reference> references = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Reference reference = Reference.builder()
+                    .category(category)
+                    .title("산업안전 교육 자료 " + i)
+                    .description("작업장 안전 수칙과 사고 사례를 정리한 교육 자료입니다. " + i)
+                    .fileName("safety-guide-" + i + ".pdf")
+                    .filePath("stored-" + i + ".pdf")
+                    .thumbnailPath("thumb_" + i + ".png")
+                    .build();
+            ReflectionTestUtils.setField(reference, "id", (long) i + 1);
+            ReflectionTestUtils.setField(reference, "createdAt", now.minusHours(i));
+            for (int j = 0; j < files; j++) {
+                ReferenceFile file = ReferenceFile.builder()
+                        .reference(reference).fileName("attachment-" + j + ".pdf").filePath("file-" + i + "-" + j)
+                        .sortOrder(j).build();
+                ReflectionTestUtils.setField(file, "id", (long) i * 100 + j);
+                reference.getFiles().add(file);
+            }
+            for (int j = 0; j < images; j++) {
+                ReferenceImage image = ReferenceImage.builder()
+                        .reference(reference).fileName("photo-" + j + ".jpg").filePath("img-" + i + "-" + j)
+                        .sortOrder(j).build();
+                ReflectionTestUtils.setField(image, "id", (long) i * 100 + j);
+                reference.getImages().add(image);
+            }
+            references.add(reference);
+        }
+        return references;
+    }
+}
@@ -0,0 +1,47 @@
+package com.smcompany.backend.dto.response;
+
+import com.smcompany.backend.entity.Reference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지(20건)의 {@link ReferenceResponse#from} 변환 비용.
+ * 첨부파일/갤러리 이미지 수에 따라 얼마나 늘어나는지 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReferenceResponseBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int files;
+
+    @Param({"0", "5"})
+    private int images;
+
+    private List<Reference> page;
+
+    @Setup
+    public void setUp() {
+        page = ReferenceFixtures.references(20, files, images);
+    }
+
+    @Benchmark
+    public List<ReferenceResponse> mapPage() {
+        List<ReferenceResponse> responses = new ArrayList<>(page.size());
+        for (Reference reference : page) {
+            responses.add(ReferenceResponse.from(reference));
+        }
+        return responses;
+    }
+}
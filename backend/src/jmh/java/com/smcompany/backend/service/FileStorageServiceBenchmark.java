@@ -0,0 +1,141 @@
+package com.smcompany.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 저장과 다운로드 읽기 경로의 파일 크기별 비용.
+ * <p>저장 벤치마크는 호출마다 저장한 파일을 지우므로(Level.Invocation) 매번 새 파일을 쓰는 비용을 잰다.
+ * {@code storeFive*} 는 자료 등록 시 첨부 5개를 순서대로/저장 풀에서 병렬로 저장하는 경우를 비교한다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileStorageServiceBenchmark {
+
+    private static final int PARTS = 5;
+
+    @Param({"4096", "1048576", "16777216"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean contentAddressed;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private ThreadPoolTaskExecutor storageExecutor;
+    private List<MockMultipartFile> parts;
+    private String storedForRead;
+
+    private final List<String> stored = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("jmh-storage");
+        fileStorageService = new FileStorageService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "contentAddressed", contentAddressed);
+        fileStorageService.init();
+
+        storageExecutor = new ThreadPoolTaskExecutor();
+        storageExecutor.setCorePoolSize(PARTS);
+        storageExecutor.setMaxPoolSize(PARTS);
+        storageExecutor.initialize();
+
+        Random random = new Random(42);
+        parts = new ArrayList<>(PARTS);
+        for (int i = 0; i < PARTS; i++) {
+            parts.add(part(random, "document-" + i + ".pdf"));
+        }
+        // 저장 벤치마크가 지우는 파일과 내용 주소가 겹치지 않도록 읽기용 파일은 내용을 따로 만든다.
+        storedForRead = fileStorageService.storeFile(part(random, "download.pdf"));
+    }
+
+    private MockMultipartFile part(Random random, String fileName) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        return new MockMultipartFile("file", fileName, "application/pdf", content);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteStored() {
+        stored.forEach(fileStorageService::deleteFile);
+        stored.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storageExecutor.shutdown();
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public String storeFile() {
+        String name = fileStorageService.storeFile(parts.get(0));
+        stored.add(name);
+        return name;
+    }
+
+    @Benchmark
+    public List<String> storeFiveSequential() {
+        for (MockMultipartFile part : parts) {
+            stored.add(fileStorageService.storeFile(part));
+        }
+        return stored;
+    }
+
+    @Benchmark
+    public List<String> storeFiveParallel() {
+        List<CompletableFuture<String>> futures = new ArrayList<>(PARTS);
+        for (MockMultipartFile part : parts) {
+            futures.add(CompletableFuture.supplyAsync(() -> fileStorageService.storeFile(part), storageExecutor));
+        }
+        futures.forEach(future -> stored.add(future.join()));
+        return stored;
+    }
+
+    @Benchmark
+    public Resource loadFileAsResource() {
+        return fileStorageService.loadFileAsResource(storedForRead);
+    }
+
+    @Benchmark
+    public long loadFileAsResourceAndRead() throws IOException {
+        try (InputStream in = fileStorageService.loadFileAsResource(storedForRead).getInputStream()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /** 다운로드 응답이 사용하는 FileChannel.transferTo 경로 */
+    @Benchmark
+    public void transferTo() throws IOException {
+        Path file = fileStorageService.resolveFile(storedForRead);
+        fileStorageService.transferTo(file, 0, size, Channels.newChannel(OutputStream.nullOutputStream()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.BackendApplication;
+import com.smcompany.backend.dto.request.ReferenceRequest;
+import com.smcompany.backend.entity.ReferenceCategory;
+import com.smcompany.backend.repository.ReferenceCategoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 파일 1개, 썸네일 1개, 갤러리 이미지 5장(총 7개 파트)을 올리는 자료 등록 전체 경로.
+ * <p>내장 H2 로 애플리케이션을 띄워 트랜잭션, INSERT, 파일 저장을 모두 포함해 잰다. {@code ioThreads=1} 은
+ * 저장 풀이 한 스레드라 파트를 하나씩 쓰는 경우, {@code 8} 은 기본 설정처럼 파트를 동시에 쓰는 경우다.
+ * 호출마다 만든 자료를 지우고(Level.Invocation), 내용 주소 저장을 끄고 매번 새 파일을 쓴다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReferenceCreateBenchmark {
+
+    private static final int GALLERY_IMAGES = 5;
+
+    @Param({"65536", "1048576", "8388608"})
+    private int size;
+
+    @Param({"1", "8"})
+    private int ioThreads;
+
+    private Path uploadDir;
+    private ConfigurableApplicationContext context;
+    private ReferenceService referenceService;
+    private ReferenceRequest request;
+    private MockMultipartFile file;
+    private MockMultipartFile thumbnail;
+    private List<MockMultipartFile> images;
+    private Long created;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("jmh-reference");
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "server.port=0",
+                        "management.server.port=0",
+                        "logging.level.root=WARN",
+                        // 임의 바이트 이미지는 축소본을 만들 수 없어 경고가 반복되므로 숨긴다.
+                        "logging.level.com.smcompany.backend.service.ThumbnailVariantService=ERROR",
+                        "file.upload-dir=" + uploadDir,
+                        "file.content-addressed=false",
+                        "app.search.fulltext-enabled=false",
+                        "app.storage.io-threads=" + ioThreads)
+                .run();
+        referenceService = context.getBean(ReferenceService.class);
+
+        ReferenceCategory category = context.getBean(ReferenceCategoryRepository.class)
+                .save(ReferenceCategory.builder().name("벤치마크").sortOrder(0).build());
+        request = new ReferenceRequest();
+        request.setCategoryId(category.getId());
+        request.setTitle("벤치마크 자료");
+
+        Random random = new Random(42);
+        file = part(random, "document.pdf", "application/pdf");
+        thumbnail = part(random, "thumbnail.jpg", "image/jpeg");
+        images = new ArrayList<>(GALLERY_IMAGES);
+        for (int i = 0; i < GALLERY_IMAGES; i++) {
+            images.add(part(random, "gallery-" + i + ".jpg", "image/jpeg"));
+        }
+    }
+
+    private MockMultipartFile part(Random random, String fileName, String contentType) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        return new MockMultipartFile("file", fileName, contentType, content);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteCreated() {
+        if (created != null) {
+            referenceService.deleteReference(created);
+            created = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public Long createReferenceWithSevenParts() {
+        created = referenceService.createReference(request, file, thumbnail, new ArrayList<>(images)).getId();
+        return created;
+    }
+}
@@ -0,0 +1,99 @@
+package com.smcompany.backend.loadtest;
+
+import com.smcompany.backend.service.IdGeneratorInitializer;
+import com.smcompany.backend.service.ListPageCache;
+import com.smcompany.backend.service.ListPageCache.ListType;
+import com.smcompany.backend.service.QnaSearchIndex;
+import com.smcompany.backend.service.QnaService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 API 종단 간 부하 테스트.
+ * <p>실제 내장 Tomcat 과 H2(MySQL 호환 모드)로 앱을 띄우고, 합성 데이터를 넣은 뒤 자료실 목록/상세/검색/다운로드와
+ * Q&A 목록/검색/댓글 요청을 동시에 보내 시나리오별 처리량과 응답 시간 백분위수를 {@code build/reports/loadtest} 에 남긴다.
+ * {@code -Dloadtest.baseline=<이전 결과 json>} 을 주면 변화율을 함께 적고,
+ * {@code -Dloadtest.max-p99-ms} 를 주면 이를 넘는 시나리오가 있을 때 실패한다.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGeneratorInitializer idGeneratorInitializer;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private QnaSearchIndex qnaSearchIndex;
+
+    @Autowired
+    private ListPageCache listPageCache;
+
+    @Test
+    void readEndpointsUnderLoad() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.from(environment);
+
+        long seedStarted = System.currentTimeMillis();
+        new LoadTestDataSeeder(jdbcTemplate, Path.of(uploadDir).toAbsolutePath(), settings).seed();
+        idGeneratorInitializer.alignWithExistingIds();
+        qnaService.backfillCommentCounts();
+        qnaSearchIndex.rebuild();
+        for (ListType type : ListType.values()) {
+            listPageCache.invalidate(type);
+        }
+        long seedMillis = System.currentTimeMillis() - seedStarted;
+        log.info("합성 데이터 생성 완료 ({}ms): {}", seedMillis, settings.toMap());
+
+        LoadDriver driver = new LoadDriver("http://localhost:" + port, LoadDriver.scenarios(settings));
+        Map<String, Object> scenarios = driver.run(settings.concurrency(), settings.warmup(), settings.duration())
+                .summarize();
+
+        String baseline = environment.getProperty("loadtest.baseline");
+        String summary = new LoadTestReport().write(
+                Path.of(environment.getProperty("loadtest.report-dir", "build/reports/loadtest")),
+                baseline != null ? Path.of(baseline) : null,
+                settings, seedMillis, scenarios);
+        log.info("부하 테스트 결과\n{}", summary);
+
+        Double maxP99 = environment.getProperty("loadtest.max-p99-ms", Double.class);
+        scenarios.forEach((name, value) -> {
+            Map<?, ?> stats = (Map<?, ?>) value;
+            long requests = ((Number) stats.get("requests")).longValue();
+            long errors = ((Number) stats.get("errors")).longValue();
+            assertThat(errors).as("%s 오류 응답 수", name).isLessThanOrEqualTo(requests / 100);
+            if (maxP99 != null) {
+                assertThat(((Number) stats.get("p99Ms")).doubleValue()).as("%s p99(ms)", name)
+                        .isLessThanOrEqualTo(maxP99);
+            }
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.smcompany.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 고정 개수의 가상 사용자가 가중치에 따라 시나리오를 골라 쉬지 않고 요청을 보낸다 (closed model).
+ * 예열 구간의 응답은 버리고, 측정 구간의 응답 시간만 시나리오별로 기록한다.
+ */
+final class LoadDriver {
+
+    /** 이름, 선택 가중치, 요청 경로(쿼리 포함) 생성기 */
+    record Scenario(String name, int weight, Function<ThreadLocalRandom, String> path) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    LoadDriver(String baseUrl, List<Scenario> scenarios) {
+        this.baseUrl = baseUrl;
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    /** 예열 후 측정 구간 동안 부하를 걸고, 시나리오별 통계와 측정 시간(초)을 반환한다. */
+    Result run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        Map<String, LatencyStats> stats = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> stats.put(scenario.name(), new LatencyStats()));
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                    Scenario scenario = pick(random);
+                    long sent = System.nanoTime();
+                    boolean success = send(scenario.path().apply(random));
+                    long received = System.nanoTime();
+                    if (sent >= measureFrom) {
+                        stats.get(scenario.name()).record(received - sent, success);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmup.plus(duration).toSeconds() + 60, TimeUnit.SECONDS);
+        return new Result(stats, duration.toMillis() / 1000.0);
+    }
+
+    record Result(Map<String, LatencyStats> stats, double elapsedSeconds) {
+        Map<String, Object> summarize() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            stats.forEach((name, latency) -> summary.put(name, latency.summarize(elapsedSeconds)));
+            return summary;
+        }
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private boolean send(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static List<Scenario> scenarios(LoadTestSettings settings) {
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("references-first-page", 15, random -> "/api/references"));
+        scenarios.add(new Scenario("references-deep-page", 10, random ->
+                "/api/references?page=" + random.nextInt(Math.max(1, settings.references() / 10)) + "&size=10"));
+        scenarios.add(new Scenario("reference-detail", 15, random ->
+                "/api/references/" + (1 + random.nextInt(settings.references()))));
+        scenarios.add(new Scenario("references-search", 10, random ->
+                "/api/references/search?keyword=" + keyword(random)));
+        scenarios.add(new Scenario("reference-download", 5, random ->
+                "/api/references/" + (1 + random.nextInt(settings.references())) + "/download"));
+        scenarios.add(new Scenario("qna-first-page", 15, random -> "/api/qna"));
+        scenarios.add(new Scenario("qna-deep-page", 5, random ->
+                "/api/qna?page=" + random.nextInt(Math.max(1, settings.posts() / 10)) + "&size=10"));
+        scenarios.add(new Scenario("qna-search", 10, random -> "/api/qna/search?keyword=" + keyword(random)));
+        scenarios.add(new Scenario("qna-comments", 15, random ->
+                "/api/qna/" + (1 + random.nextInt(settings.posts())) + "/comments"));
+        return scenarios;
+    }
+
+    private static String keyword(ThreadLocalRandom random) {
+        String word = LoadTestDataSeeder.WORDS[random.nextInt(LoadTestDataSeeder.WORDS.length)];
+        return URLEncoder.encode(word, StandardCharsets.UTF_8);
+    }
+}
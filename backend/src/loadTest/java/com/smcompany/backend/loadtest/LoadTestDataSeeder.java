@@ -0,0 +1,171 @@
+package com.smcompany.backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 데이터 생성기.
+ * <p>JPA 를 거치지 않고 JDBC 배치로 카테고리/자료/첨부/갤러리 행과 Q&A 게시글/댓글(답글 포함)을 넣고,
+ * 첨부파일 다운로드가 실제 파일을 읽도록 업로드 디렉터리에 blob 파일을 만든다.
+ * IDENTITY 테이블은 빈 스키마에 순서대로 넣어 id 가 1 부터 이어지게 하고,
+ * TABLE 생성기를 쓰는 테이블은 id 를 직접 지정한다 (이후 {@code IdGeneratorInitializer} 로 맞춘다).</p>
+ */
+final class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 5000;
+
+    /** 제목/본문 단어. 검색 시나리오가 같은 단어로 질의한다. */
+    static final String[] WORDS = {
+            "안전", "교육", "화재", "예방", "점검", "보호구", "작업", "위험성", "평가", "매뉴얼",
+            "응급", "처치", "소방", "설비", "관리", "기준", "사례", "절차", "훈련", "계획"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path uploadDir;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final LocalDateTime baseTime = LocalDateTime.now().minusDays(365);
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, Path uploadDir, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.uploadDir = uploadDir;
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    void seed() throws IOException {
+        writeBlobs();
+        insertCategories();
+        insertReferences();
+        insertAttachments("reference_file", settings.filesPerReference(), "첨부", ".pdf");
+        insertAttachments("reference_image", settings.imagesPerReference(), "사진", ".jpg");
+        insertPosts();
+        insertComments();
+    }
+
+    static String blobName(int index) {
+        return "loadtest-blob-" + index + ".pdf";
+    }
+
+    private void writeBlobs() throws IOException {
+        Path files = Files.createDirectories(uploadDir.resolve("files"));
+        byte[] content = new byte[settings.blobSizeBytes()];
+        for (int i = 0; i < settings.blobs(); i++) {
+            random.nextBytes(content);
+            Files.write(files.resolve(blobName(i)), content);
+        }
+    }
+
+    private void insertCategories() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < settings.categories(); i++) {
+            rows.add(new Object[]{"카테고리 " + i, i, timestamp(0)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reference_category (name, sort_order, created_at) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertReferences() {
+        String sql = "INSERT INTO reference (category_id, title, description, file_name, file_path, "
+                + "download_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < settings.references(); i++) {
+            Timestamp createdAt = timestamp(i);
+            rows.add(new Object[]{
+                    1 + random.nextInt(settings.categories()),
+                    sentence(4) + " " + i,
+                    sentence(30),
+                    "자료-" + i + ".pdf",
+                    blobName(i % settings.blobs()),
+                    random.nextInt(500),
+                    createdAt, createdAt});
+            flushIfFull(sql, rows);
+        }
+        flush(sql, rows);
+    }
+
+    private void insertAttachments(String table, int perReference, String label, String extension) {
+        String sql = "INSERT INTO " + table + " (id, reference_id, file_name, file_path, sort_order) VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long id = 1;
+        for (int ref = 1; ref <= settings.references(); ref++) {
+            for (int order = 0; order < perReference; order++) {
+                rows.add(new Object[]{id, ref, label + "-" + order + extension,
+                        blobName((int) (id % settings.blobs())), order});
+                id++;
+                flushIfFull(sql, rows);
+            }
+        }
+        flush(sql, rows);
+    }
+
+    private void insertPosts() {
+        String password = new BCryptPasswordEncoder(4).encode("loadtest");
+        String sql = "INSERT INTO qna_post (author_name, password, title, content, is_notice, view_count, "
+                + "comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < settings.posts(); i++) {
+            Timestamp createdAt = timestamp(i);
+            rows.add(new Object[]{"작성자" + (i % 1000), password, sentence(5) + " 문의 " + i, sentence(60),
+                    i < 5, random.nextInt(2000), createdAt, createdAt});
+            flushIfFull(sql, rows);
+        }
+        flush(sql, rows);
+    }
+
+    /** 게시글마다 고르게 나누고, 약 30% 는 같은 게시글의 직전 댓글에 다는 답글로 만든다. */
+    private void insertComments() {
+        String password = new BCryptPasswordEncoder(4).encode("loadtest");
+        String sql = "INSERT INTO qna_comment (id, post_id, parent_id, author_name, password, content, is_admin, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        long[] lastCommentByPost = new long[settings.posts() + 1];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < settings.comments(); i++) {
+            long id = i + 1;
+            int postId = 1 + i % settings.posts();
+            Long parentId = lastCommentByPost[postId] != 0 && random.nextInt(10) < 3 ? lastCommentByPost[postId] : null;
+            Timestamp createdAt = timestamp(i);
+            rows.add(new Object[]{id, postId, parentId, "댓글러" + (i % 500), password, sentence(15),
+                    i % 17 == 0, createdAt, createdAt});
+            lastCommentByPost[postId] = id;
+            flushIfFull(sql, rows);
+        }
+        flush(sql, rows);
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private Timestamp timestamp(long offsetSeconds) {
+        return Timestamp.valueOf(baseTime.plusSeconds(offsetSeconds));
+    }
+}
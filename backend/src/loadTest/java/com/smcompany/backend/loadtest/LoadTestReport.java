@@ -0,0 +1,96 @@
+package com.smcompany.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과를 JSON(실행 간 비교용)과 Markdown 표로 남긴다.
+ * 기준 결과 JSON 이 주어지면 시나리오별 p99/처리량 변화율을 함께 적는다.
+ */
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** 결과를 기록하고 Markdown 요약을 반환한다. */
+    String write(Path reportDir, Path baseline, LoadTestSettings settings, long seedMillis,
+                 Map<String, Object> scenarios) throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", now.toString());
+        report.put("settings", settings.toMap());
+        report.put("seedMillis", seedMillis);
+        report.put("scenarios", scenarios);
+
+        Files.createDirectories(reportDir);
+        String stamp = now.format(FILE_TIME);
+        Path json = reportDir.resolve("loadtest-" + stamp + ".json");
+        objectMapper.writeValue(json.toFile(), report);
+        Files.copy(json, reportDir.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+
+        JsonNode current = objectMapper.valueToTree(report).path("scenarios");
+        JsonNode previous = baseline != null && Files.isRegularFile(baseline)
+                ? objectMapper.readTree(baseline.toFile()).path("scenarios")
+                : null;
+        String markdown = markdown(settings, current, previous, baseline);
+        Files.writeString(reportDir.resolve("loadtest-" + stamp + ".md"), markdown);
+        return markdown;
+    }
+
+    private String markdown(LoadTestSettings settings, JsonNode current, JsonNode previous, Path baseline) {
+        StringBuilder out = new StringBuilder();
+        out.append("# Load test\n\n")
+                .append("references=").append(settings.references())
+                .append(", posts=").append(settings.posts())
+                .append(", comments=").append(settings.comments())
+                .append(", concurrency=").append(settings.concurrency())
+                .append(", duration=").append(settings.duration().toSeconds()).append("s\n\n");
+        if (previous != null) {
+            out.append("baseline: ").append(baseline).append("\n\n");
+        }
+        out.append("| scenario | req/s | errors | p50 ms | p95 ms | p99 ms | max ms |");
+        out.append(previous != null ? " p99 Δ | req/s Δ |\n" : "\n");
+        out.append("|---|---:|---:|---:|---:|---:|---:|");
+        out.append(previous != null ? "---:|---:|\n" : "\n");
+
+        current.fields().forEachRemaining(entry -> {
+            JsonNode stats = entry.getValue();
+            out.append("| ").append(entry.getKey())
+                    .append(" | ").append(stats.path("throughputPerSecond").asDouble())
+                    .append(" | ").append(stats.path("errors").asLong())
+                    .append(" | ").append(stats.path("p50Ms").asDouble())
+                    .append(" | ").append(stats.path("p95Ms").asDouble())
+                    .append(" | ").append(stats.path("p99Ms").asDouble())
+                    .append(" | ").append(stats.path("maxMs").asDouble())
+                    .append(" |");
+            if (previous != null) {
+                JsonNode before = previous.path(entry.getKey());
+                out.append(' ').append(change(before.path("p99Ms").asDouble(), stats.path("p99Ms").asDouble()))
+                        .append(" | ")
+                        .append(change(before.path("throughputPerSecond").asDouble(),
+                                stats.path("throughputPerSecond").asDouble()))
+                        .append(" |");
+            }
+            out.append('\n');
+        });
+        return out.toString();
+    }
+
+    private static String change(double before, double after) {
+        if (before <= 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+}
@@ -0,0 +1,48 @@
+package com.smcompany.backend.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 데이터 규모와 실행 조건. {@code -Dloadtest.*} 시스템 속성으로 바꿀 수 있다.
+ */
+record LoadTestSettings(int categories, int references, int filesPerReference, int imagesPerReference,
+                        int posts, int comments, int blobs, int blobSizeBytes,
+                        int concurrency, Duration warmup, Duration duration, long seed) {
+
+    static LoadTestSettings from(Environment env) {
+        return new LoadTestSettings(
+                env.getProperty("loadtest.categories", Integer.class, 10),
+                env.getProperty("loadtest.references", Integer.class, 100_000),
+                env.getProperty("loadtest.files-per-reference", Integer.class, 2),
+                env.getProperty("loadtest.images-per-reference", Integer.class, 3),
+                env.getProperty("loadtest.posts", Integer.class, 50_000),
+                env.getProperty("loadtest.comments", Integer.class, 1_000_000),
+                env.getProperty("loadtest.blobs", Integer.class, 200),
+                env.getProperty("loadtest.blob-size-bytes", Integer.class, 256 * 1024),
+                env.getProperty("loadtest.concurrency", Integer.class, 32),
+                env.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(20)),
+                env.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60)),
+                env.getProperty("loadtest.seed", Long.class, 42L));
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("categories", categories);
+        map.put("references", references);
+        map.put("filesPerReference", filesPerReference);
+        map.put("imagesPerReference", imagesPerReference);
+        map.put("posts", posts);
+        map.put("comments", comments);
+        map.put("blobs", blobs);
+        map.put("blobSizeBytes", blobSizeBytes);
+        map.put("concurrency", concurrency);
+        map.put("warmupSeconds", warmup.toSeconds());
+        map.put("durationSeconds", duration.toSeconds());
+        map.put("seed", seed);
+        return map;
+    }
+}
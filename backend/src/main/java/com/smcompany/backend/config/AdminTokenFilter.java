@@ -0,0 +1,74 @@
+package com.smcompany.backend.config;
+
+import com.smcompany.backend.service.AdminTokenService;
+import com.smcompany.backend.service.AdminTokenService.TokenClaims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 관리자 토큰을 {@code ADMIN_TOKEN} 쿠키 또는 {@code Authorization: Bearer} 헤더에서 읽어 검증하고,
+ * 유효하면 {@link #CLAIMS_ATTRIBUTE} 요청 속성에 토큰 내용을 담는다. 세션을 만들거나 조회하지 않는다.
+ * 쿠키 토큰은 남은 유효 시간이 절반 이하가 되면 같은 세대로 다시 발급해 활동 중인 관리자의 로그인을 유지한다.
+ */
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    public static final String CLAIMS_ATTRIBUTE = AdminTokenFilter.class.getName() + ".CLAIMS";
+
+    private final AdminTokenService adminTokenService;
+
+    public AdminTokenFilter(AdminTokenService adminTokenService) {
+        this.adminTokenService = adminTokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !adminTokenService.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String bearer = bearerToken(request);
+        String token = bearer != null ? bearer : cookieToken(request);
+        if (token != null) {
+            Optional<TokenClaims> claims = adminTokenService.verify(token);
+            claims.ifPresent(verified -> {
+                request.setAttribute(CLAIMS_ATTRIBUTE, verified);
+                if (bearer == null && adminTokenService.shouldRenew(verified)) {
+                    String renewed = adminTokenService.reissue(verified, verified.admin());
+                    response.addHeader(HttpHeaders.SET_COOKIE, adminTokenService.cookie(renewed).toString());
+                }
+            });
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(AdminTokenService.BEARER_PREFIX)) {
+            return header.substring(AdminTokenService.BEARER_PREFIX.length()).trim();
+        }
+        return null;
+    }
+
+    private String cookieToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (AdminTokenService.COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,10 @@
 package com.smcompany.backend.config;
 
 import com.smcompany.backend.service.AdminService;
+import com.smcompany.backend.service.IdGeneratorInitializer;
+import com.smcompany.backend.service.QnaSearchIndex;
+import com.smcompany.backend.service.QnaService;
+import com.smcompany.backend.service.ReferenceSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -9,10 +13,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
+    private final IdGeneratorInitializer idGeneratorInitializer;
     private final AdminService adminService;
+    private final ReferenceSearchService referenceSearchService;
+    private final QnaSearchIndex qnaSearchIndex;
+    private final QnaService qnaService;
 
     @Override
     public void run(String... args) {
+        idGeneratorInitializer.alignWithExistingIds();
         adminService.initAdmin();
+        qnaService.backfillCommentCounts();
+        referenceSearchService.initFullTextIndex();
+        qnaSearchIndex.rebuild();
     }
 }
@@ -0,0 +1,64 @@
+package com.smcompany.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /** 썸네일 변환(ImageIO 디코딩/리사이즈)용 작업 풀. CPU·메모리 사용량이 커서 작게 제한한다. */
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${app.thumbnail.worker-threads:2}") int threads,
+            @Value("${app.thumbnail.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 작업 풀. 동시에 계산하는 해시 수를 코어 수 이하로 묶어
+     * 요청이 몰려도 해시 계산이 CPU 를 독점하지 않게 하고, 대기열이 가득 차면 즉시 거절(503)한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.password.hash-threads:0}") int threads,
+            @Value("${app.password.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 업로드 파일 저장용 I/O 작업 풀. 자료 하나의 본문/썸네일/갤러리 이미지를 동시에 디스크에 쓴다.
+     * 대기열이 가득 차면 요청 스레드가 직접 저장해 작업이 유실되지 않게 한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor storageExecutor(
+            @Value("${app.storage.io-threads:8}") int threads,
+            @Value("${app.storage.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("storage-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
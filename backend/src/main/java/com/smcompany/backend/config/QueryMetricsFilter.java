@@ -0,0 +1,72 @@
+package com.smcompany.backend.config;
+
+import com.smcompany.backend.config.QueryStats.SlowQuery;
+import com.smcompany.backend.service.RequestQueryMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청마다 Hibernate SQL 수와 실행 시간을 모아 엔드포인트별로 집계한다.
+ * 기준 시간 이상 걸린 SQL 과 기준 개수를 넘는 SQL 을 실행한 요청(N+1 의심)만 엔드포인트와 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final RequestQueryMetrics requestQueryMetrics;
+    private final long slowThresholdNanos;
+    private final int requestWarnCount;
+
+    public QueryMetricsFilter(RequestQueryMetrics requestQueryMetrics,
+                              @Value("${app.query.slow-threshold-ms:200}") long slowThresholdMillis,
+                              @Value("${app.query.request-warn-count:30}") int requestWarnCount) {
+        this.requestQueryMetrics = requestQueryMetrics;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.requestWarnCount = requestWarnCount;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = QueryStats.start(slowThresholdNanos, false);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.stop();
+            String method = request.getMethod();
+            String uri = endpoint(request);
+            requestQueryMetrics.record(method, uri, stats.getCount(), stats.getNanos());
+            for (SlowQuery slow : stats.getSlowQueries()) {
+                log.warn("느린 SQL {}ms [{} {}] {}", TimeUnit.NANOSECONDS.toMillis(slow.nanos()), method, uri, slow.sql());
+            }
+            if (stats.getCount() > requestWarnCount) {
+                log.warn("요청당 SQL {}건 ({}ms) [{} {}]", stats.getCount(),
+                        TimeUnit.NANOSECONDS.toMillis(stats.getNanos()), method, uri);
+            }
+        }
+    }
+
+    /** 경로 변수 대신 매핑 패턴으로 묶는다 (예: /api/references/{id}). 매핑되지 않은 요청은 UNKNOWN. */
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
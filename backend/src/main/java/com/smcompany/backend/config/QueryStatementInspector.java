@@ -0,0 +1,16 @@
+package com.smcompany.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Hibernate 가 문장을 준비할 때마다 현재 구간의 SQL 개수를 센다. SQL 은 바꾸지 않는다. */
+public class QueryStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.onPrepare(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,98 @@
+package com.smcompany.backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드(요청 또는 테스트 구간)에서 Hibernate 가 실행한 SQL 의 수와 실행 시간.
+ * <p>{@link QueryStatementInspector} 가 문장 준비 시점에 개수와 SQL 을, {@link QueryTimingListener} 가
+ * 실행 시작/종료 시점에 시간을 기록한다. 구간이 시작되지 않은 스레드(스케줄러, 저장 풀 등)에서는 아무것도 기록하지 않는다.
+ * JdbcTemplate 으로 직접 실행하는 SQL 은 Hibernate 를 거치지 않으므로 포함되지 않는다.</p>
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    /** 기준 시간 이상 걸린 SQL */
+    public record SlowQuery(String sql, long nanos) {
+    }
+
+    private final QueryStats previous;
+    private final long slowThresholdNanos;
+    private final List<String> statements;
+    private final List<SlowQuery> slowQueries = new ArrayList<>(0);
+
+    private int count;
+    private long nanos;
+    private String lastSql;
+    private long executeStartedAt;
+
+    private QueryStats(QueryStats previous, long slowThresholdNanos, boolean captureStatements) {
+        this.previous = previous;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.statements = captureStatements ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 현재 스레드에서 기록을 시작한다. captureStatements 이면 실행한 SQL 을 모두 보관한다(테스트용).
+     * 이미 진행 중인 구간이 있으면 {@link #stop()} 에서 되돌린다.
+     */
+    public static QueryStats start(long slowThresholdNanos, boolean captureStatements) {
+        QueryStats stats = new QueryStats(CURRENT.get(), slowThresholdNanos, captureStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    void onPrepare(String sql) {
+        count++;
+        lastSql = sql;
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    void onExecuteStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    void onExecuteEnd() {
+        if (executeStartedAt == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executeStartedAt;
+        executeStartedAt = 0;
+        nanos += elapsed;
+        if (elapsed >= slowThresholdNanos) {
+            slowQueries.add(new SlowQuery(lastSql, elapsed));
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries;
+    }
+
+    /** captureStatements 로 시작하지 않았으면 빈 목록 */
+    public List<String> getStatements() {
+        return statements != null ? statements : List.of();
+    }
+}
@@ -0,0 +1,44 @@
+package com.smcompany.backend.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 생성되어 JDBC 실행(단건/배치) 시간을 현재 구간에 더한다.
+ * 준비 직후 실행되므로 시간은 {@link QueryStatementInspector} 가 마지막으로 본 SQL 의 것으로 기록한다.
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        end();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        end();
+    }
+
+    private void start() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.onExecuteStart();
+        }
+    }
+
+    private void end() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.onExecuteEnd();
+        }
+    }
+}
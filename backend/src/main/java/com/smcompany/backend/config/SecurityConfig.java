@@ -1,5 +1,7 @@
 package com.smcompany.backend.config;
 
+import com.smcompany.backend.service.AdminTokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -8,20 +10,30 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * BCrypt 작업 비용(log2 rounds). 값을 올리면 기존 해시는 다음 로그인/비밀번호 확인 성공 시
+     * {@link com.smcompany.backend.service.PasswordHashingService} 가 새 비용으로 다시 저장한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * 관리자 판별은 컨트롤러가 {@code CurrentAdmin} 으로 하고, 서명 토큰 모드이면
+     * {@link AdminTokenFilter} 가 세션 없이 토큰만 검증해 요청에 관리자를 담는다.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AdminTokenService adminTokenService) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
+                .addFilterBefore(new AdminTokenFilter(adminTokenService), AuthorizationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         // 자료실: 누구나 조회/다운로드 가능
                         .requestMatchers(HttpMethod.GET, "/api/references/**").permitAll()
@@ -1,16 +1,27 @@
 package com.smcompany.backend.controller;
 
+import com.smcompany.backend.config.AdminTokenFilter;
 import com.smcompany.backend.dto.request.AdminLoginRequest;
 import com.smcompany.backend.entity.Admin;
+import com.smcompany.backend.service.AdminPrincipal;
 import com.smcompany.backend.service.AdminService;
+import com.smcompany.backend.service.AdminTokenService;
+import com.smcompany.backend.service.AdminTokenService.TokenClaims;
+import com.smcompany.backend.service.PasswordAttemptLimiter;
+import com.smcompany.backend.service.PasswordHashingService;
+import com.smcompany.backend.service.ReferenceCatalogCache;
+import com.smcompany.backend.service.RequestQueryMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -18,11 +29,36 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final ReferenceCatalogCache referenceCatalogCache;
+    private final PasswordHashingService passwordHashingService;
+    private final PasswordAttemptLimiter passwordAttemptLimiter;
+    private final RequestQueryMetrics requestQueryMetrics;
+    private final AdminTokenService adminTokenService;
+    private final CurrentAdmin currentAdmin;
 
+    /**
+     * 토큰 모드이면 세대를 올린 서명 토큰을 HttpOnly 쿠키로만 내려주고 세션은 만들지 않는다.
+     * 스크립트가 토큰을 읽지 못하도록 응답 본문에는 싣지 않으며, Bearer 헤더를 쓰는 비브라우저 클라이언트는
+     * Set-Cookie 의 {@code ADMIN_TOKEN} 값을 사용한다.
+     * 세션 모드이면 기존처럼 세션에 로그인 정보를 저장한다. 두 모드 모두 새 로그인이 이전 로그인을 끊는다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody AdminLoginRequest request, HttpSession session) {
+    public ResponseEntity<?> login(@Valid @RequestBody AdminLoginRequest request, HttpServletRequest httpRequest) {
+        passwordAttemptLimiter.acquire(httpRequest.getRemoteAddr(), "admin:" + request.getUsername());
         Admin admin = adminService.authenticate(request.getUsername(), request.getPassword());
 
+        if (adminTokenService.isEnabled()) {
+            String token = adminTokenService.issueOnLogin(admin.getId());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, adminTokenService.cookie(token).toString())
+                    .body(Map.of(
+                            "message", "로그인 성공",
+                            "name", admin.getName(),
+                            "expiresIn", adminTokenService.getTtl().toSeconds()
+                    ));
+        }
+
+        HttpSession session = httpRequest.getSession();
         // 동시 로그인 방지: 기존 세션 무효화
         adminService.registerSession(admin.getUsername(), session);
 
@@ -36,32 +72,67 @@ public class AdminController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpSession session) {
-        String username = (String) session.getAttribute("admin");
-        if (username != null) {
-            adminService.removeSession(username);
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        if (request.getAttribute(AdminTokenFilter.CLAIMS_ATTRIBUTE) instanceof TokenClaims claims) {
+            adminTokenService.revoke(claims.admin().id());
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            String username = (String) session.getAttribute("admin");
+            if (username != null) {
+                adminService.removeSession(username);
+            }
+            session.invalidate();
         }
-        session.invalidate();
-        return ResponseEntity.ok(Map.of("message", "로그아웃 성공"));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, adminTokenService.expiredCookie().toString())
+                .body(Map.of("message", "로그아웃 성공"));
     }
 
     @GetMapping("/check")
-    public ResponseEntity<?> checkLogin(HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        if (admin != null) {
+    public ResponseEntity<?> checkLogin(HttpServletRequest request) {
+        Optional<AdminPrincipal> admin = currentAdmin.resolve(request);
+        if (admin.isPresent()) {
             return ResponseEntity.ok(Map.of(
                     "loggedIn", true,
-                    "name", session.getAttribute("adminName")
+                    "name", admin.get().name()
             ));
         }
         return ResponseEntity.ok(Map.of("loggedIn", false));
     }
 
+    /** 자료실 2차 캐시 리전별 적중/미스 통계 */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> cacheStats(HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
+            return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(referenceCatalogCache.getStatistics());
+    }
+
+    /** 비밀번호 해시 풀 대기열/거절/재해시 통계 */
+    @GetMapping("/password-hashing-stats")
+    public ResponseEntity<?> passwordHashingStats(HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
+            return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(passwordHashingService.getStatistics());
+    }
+
+    /** 엔드포인트별 요청당 SQL 수/시간 (N+1 회귀 확인용) */
+    @GetMapping("/query-stats")
+    public ResponseEntity<?> queryStats(HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
+            return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(requestQueryMetrics.getStatistics());
+    }
+
     // ===== 관리자 계정 관리 =====
 
     @GetMapping("/list")
-    public ResponseEntity<?> listAdmins(HttpSession session) {
-        if (session.getAttribute("admin") == null) {
+    public ResponseEntity<?> listAdmins(HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
         List<Admin> admins = adminService.getAllAdmins();
@@ -75,8 +146,8 @@ public class AdminController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> registerAdmin(@RequestBody Map<String, String> body, HttpSession session) {
-        if (session.getAttribute("admin") == null) {
+    public ResponseEntity<?> registerAdmin(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
         try {
@@ -88,26 +159,27 @@ public class AdminController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteAdmin(@PathVariable Long id, HttpSession session) {
-        if (session.getAttribute("admin") == null) {
+    public ResponseEntity<?> deleteAdmin(@PathVariable Long id, HttpServletRequest request) {
+        Optional<AdminPrincipal> admin = currentAdmin.resolve(request);
+        if (admin.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
-        Long myId = (Long) session.getAttribute("adminId");
-        if (myId != null && myId.equals(id)) {
+        if (id.equals(admin.get().id())) {
             return ResponseEntity.badRequest().body(Map.of("message", "자기 자신은 삭제할 수 없습니다."));
         }
         adminService.deleteAdmin(id);
+        adminTokenService.forget(id);
         return ResponseEntity.ok(Map.of("message", "삭제 완료"));
     }
 
     @PutMapping("/password")
-    public ResponseEntity<?> changePassword(@RequestBody Map<String, String> body, HttpSession session) {
-        String username = (String) session.getAttribute("admin");
-        if (username == null) {
+    public ResponseEntity<?> changePassword(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        Optional<AdminPrincipal> admin = currentAdmin.resolve(request);
+        if (admin.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
         try {
-            adminService.changePassword(username, body.get("currentPassword"), body.get("newPassword"));
+            adminService.changePassword(admin.get().username(), body.get("currentPassword"), body.get("newPassword"));
             return ResponseEntity.ok(Map.of("message", "비밀번호 변경 완료"));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
@@ -115,13 +187,26 @@ public class AdminController {
     }
 
     @PutMapping("/profile")
-    public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> body, HttpSession session) {
-        String username = (String) session.getAttribute("admin");
-        if (username == null) {
+    public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        Optional<AdminPrincipal> admin = currentAdmin.resolve(request);
+        if (admin.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
-        adminService.updateProfile(username, body.get("name"));
-        session.setAttribute("adminName", body.get("name"));
-        return ResponseEntity.ok(Map.of("message", "프로필 수정 완료", "name", body.get("name")));
+        adminService.updateProfile(admin.get().username(), body.get("name"));
+        Map<String, String> result = Map.of("message", "프로필 수정 완료", "name", body.get("name"));
+
+        // 토큰에 담긴 이름도 바꿔 다시 발급한다 (세대는 그대로)
+        if (request.getAttribute(AdminTokenFilter.CLAIMS_ATTRIBUTE) instanceof TokenClaims claims) {
+            AdminPrincipal renamed = new AdminPrincipal(admin.get().id(), admin.get().username(), body.get("name"));
+            String renewed = adminTokenService.reissue(claims, renamed);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, adminTokenService.cookie(renewed).toString())
+                    .body(result);
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute("adminName", body.get("name"));
+        }
+        return ResponseEntity.ok(result);
     }
 }
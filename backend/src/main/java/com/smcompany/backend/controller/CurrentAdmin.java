@@ -0,0 +1,35 @@
+package com.smcompany.backend.controller;
+
+import com.smcompany.backend.config.AdminTokenFilter;
+import com.smcompany.backend.service.AdminPrincipal;
+import com.smcompany.backend.service.AdminTokenService.TokenClaims;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 요청의 관리자를 확인한다.
+ * <p>{@link AdminTokenFilter} 가 검증한 토큰을 먼저 보고, 없으면 기존 세션 로그인을 확인한다.
+ * 세션은 이미 있을 때만 조회하므로 비로그인 요청이 세션을 만들지 않는다.</p>
+ */
+@Component
+public class CurrentAdmin {
+
+    public Optional<AdminPrincipal> resolve(HttpServletRequest request) {
+        if (request.getAttribute(AdminTokenFilter.CLAIMS_ATTRIBUTE) instanceof TokenClaims claims) {
+            return Optional.of(claims.admin());
+        }
+        HttpSession session = request.getSession(false);
+        if (session == null || session.getAttribute("admin") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AdminPrincipal((Long) session.getAttribute("adminId"),
+                (String) session.getAttribute("admin"), (String) session.getAttribute("adminName")));
+    }
+
+    public boolean isAdmin(HttpServletRequest request) {
+        return resolve(request).isPresent();
+    }
+}
@@ -0,0 +1,186 @@
+package com.smcompany.backend.controller;
+
+import com.smcompany.backend.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일 본문을 HTTP Range 규칙에 맞춰 응답에 기록한다.
+ * <p>{@code Range}/{@code If-Range} 를 해석해 200, 206(단일/multipart/byteranges), 416 으로 응답하고,
+ * 단일 구간 본문은 가능하면 Tomcat sendfile 로 힙을 거치지 않고 보내고, 그 밖에는 {@code FileChannel.transferTo}
+ * 로 응답 스트림에 쓴다(이 경우 JDK 의 작은 복사 버퍼를 거친다).</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FileResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    private record Region(long start, long length) {
+        long end() {
+            return start + length - 1;
+        }
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response, Path file,
+                      MediaType contentType, String contentDisposition) throws IOException {
+        write(request, response, file, Files.size(file), Files.getLastModifiedTime(file).toMillis(),
+                contentType, contentDisposition);
+    }
+
+    /** 크기/수정 시각을 이미 알고 있을 때(메타데이터 캐시) 파일 속성을 다시 조회하지 않고 응답한다. */
+    public void write(HttpServletRequest request, HttpServletResponse response, Path file, long size,
+                      long lastModified, MediaType contentType, String contentDisposition) throws IOException {
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        if (contentDisposition != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        }
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !isIfRangeSatisfied(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(size);
+            writeRegion(request, response, file, new Region(0, size));
+            return;
+        }
+
+        List<Region> regions = parseRegions(rangeHeader, size);
+        if (regions == null) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.size() == 1) {
+            Region region = regions.get(0);
+            response.setContentType(contentType.toString());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, size));
+            response.setContentLengthLong(region.length());
+            writeRegion(request, response, file, region);
+            return;
+        }
+        writeMultipart(request, response, file, contentType, regions, size);
+    }
+
+    /**
+     * If-Range 가 없거나 현재 ETag/Last-Modified 와 일치할 때만 부분 응답을 허용한다.
+     * 일치하지 않으면 파일이 바뀐 것이므로 전체 본문을 내려준다.
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since >= 0 && lastModified / 1000 <= since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** 만족할 수 없는 범위이거나 요청 범위 합이 파일 크기를 넘으면 null. */
+    private List<Region> parseRegions(String rangeHeader, long size) {
+        try {
+            List<Region> regions = new ArrayList<>();
+            long total = 0;
+            for (HttpRange range : HttpRange.parseRanges(rangeHeader)) {
+                long start = range.getRangeStart(size);
+                long end = range.getRangeEnd(size);
+                regions.add(new Region(start, end - start + 1));
+                total += end - start + 1;
+            }
+            return regions.isEmpty() || total > size ? null : regions;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeMultipart(HttpServletRequest request, HttpServletResponse response, Path file,
+                                MediaType contentType, List<Region> regions, long size) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>(regions.size());
+        long contentLength = 0;
+        for (Region region : regions) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, size) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + region.length();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (int i = 0; i < regions.size(); i++) {
+            out.write(partHeaders.get(i));
+            fileStorageService.transferTo(file, regions.get(i).start(), regions.get(i).length(), channel);
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    /**
+     * 단일 구간 본문을 전송한다. 커넥터가 sendfile 을 지원하면 Tomcat 에 파일 구간만 넘겨
+     * 커널이 직접 소켓으로 복사하게 하고, 아니면 FileChannel.transferTo 로 응답 스트림에 버퍼 복사한다.
+     */
+    private void writeRegion(HttpServletRequest request, HttpServletResponse response, Path file,
+                             Region region) throws IOException {
+        if (HttpMethod.HEAD.matches(request.getMethod()) || region.length() == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, region.start());
+            request.setAttribute(SENDFILE_END, region.start() + region.length());
+            fileStorageService.recordBytesRead(region.length());
+            return;
+        }
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        fileStorageService.transferTo(file, region.start(), region.length(), channel);
+        response.flushBuffer();
+    }
+
+    private String contentRange(Region region, long size) {
+        return "bytes " + region.start() + "-" + region.end() + "/" + size;
+    }
+}
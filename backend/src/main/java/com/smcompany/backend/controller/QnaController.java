@@ -4,15 +4,21 @@ import com.smcompany.backend.dto.request.PasswordCheckRequest;
 import com.smcompany.backend.dto.request.QnaCommentRequest;
 import com.smcompany.backend.dto.request.QnaCommentUpdateRequest;
 import com.smcompany.backend.dto.request.QnaPostRequest;
+import com.smcompany.backend.dto.response.CursorPageResponse;
 import com.smcompany.backend.dto.response.QnaCommentResponse;
 import com.smcompany.backend.dto.response.QnaPostResponse;
+import com.smcompany.backend.service.ListPageCache;
+import com.smcompany.backend.service.ListPageCache.ListType;
+import com.smcompany.backend.service.PasswordAttemptLimiter;
 import com.smcompany.backend.service.QnaService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,15 +31,31 @@ import java.util.Map;
 public class QnaController {
 
     private final QnaService qnaService;
+    private final ListPageCache listPageCache;
+    private final PasswordAttemptLimiter passwordAttemptLimiter;
+    private final CurrentAdmin currentAdmin;
 
     // ===== 게시글 =====
 
+    /** 기본 크기의 앞쪽 페이지는 미리 직렬화된 JSON 을 그대로 내려준다. */
     @GetMapping
-    public ResponseEntity<Page<QnaPostResponse>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @PageableDefault(size = 10) Pageable pageable) {
+        if (listPageCache.isCacheable(pageable, 10)) {
+            byte[] body = listPageCache.get(ListType.QNA, pageable.getPageNumber(),
+                    () -> qnaService.getAllPosts(pageable));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
         return ResponseEntity.ok(qnaService.getAllPosts(pageable));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<QnaPostResponse>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(qnaService.getPostsByCursor(cursor, Math.min(Math.max(size, 1), 100)));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Page<QnaPostResponse>> searchPosts(
             @RequestParam String keyword,
@@ -41,9 +63,14 @@ public class QnaController {
         return ResponseEntity.ok(qnaService.searchPosts(keyword, pageable));
     }
 
+    /**
+     * 고유 조회자 지문은 클라이언트 IP + User-Agent. 게이트웨이 뒤에서는 getRemoteAddr 가 게이트웨이 주소가 되지 않도록
+     * 게이트웨이에서 온 X-Forwarded-For 만 신뢰해 복원한 주소를 쓴다(server.tomcat.remoteip.internal-proxies).
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<QnaPostResponse> getPost(@PathVariable Long id) {
-        return ResponseEntity.ok(qnaService.getPost(id));
+    public ResponseEntity<QnaPostResponse> getPost(@PathVariable Long id, HttpServletRequest request) {
+        String fingerprint = request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+        return ResponseEntity.ok(qnaService.getPost(id, fingerprint));
     }
 
     @PostMapping
@@ -53,19 +80,19 @@ public class QnaController {
 
     @PostMapping("/{id}/check-password")
     public ResponseEntity<?> checkPostPassword(
-            @PathVariable Long id, @Valid @RequestBody PasswordCheckRequest request) {
-        boolean matches = qnaService.checkPostPassword(id, request.getPassword());
+            @PathVariable Long id, @Valid @RequestBody PasswordCheckRequest request,
+            HttpServletRequest httpRequest) {
+        boolean matches = verifyPostPassword(id, request.getPassword(), httpRequest);
         return ResponseEntity.ok(Map.of("valid", matches));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<QnaPostResponse> updatePost(
             @PathVariable Long id, @Valid @RequestBody QnaPostRequest request,
-            HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        boolean isAdmin = admin != null;
+            HttpServletRequest httpRequest) {
+        boolean isAdmin = currentAdmin.isAdmin(httpRequest);
 
-        if (!isAdmin && !qnaService.checkPostPassword(id, request.getPassword())) {
+        if (!isAdmin && !verifyPostPassword(id, request.getPassword(), httpRequest)) {
             return ResponseEntity.status(403).build();
         }
         return ResponseEntity.ok(qnaService.updatePost(id, request));
@@ -74,11 +101,10 @@ public class QnaController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(
             @PathVariable Long id, @Valid @RequestBody PasswordCheckRequest request,
-            HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        boolean isAdmin = admin != null;
+            HttpServletRequest httpRequest) {
+        boolean isAdmin = currentAdmin.isAdmin(httpRequest);
 
-        if (!isAdmin && !qnaService.checkPostPassword(id, request.getPassword())) {
+        if (!isAdmin && !verifyPostPassword(id, request.getPassword(), httpRequest)) {
             return ResponseEntity.status(403).build();
         }
         qnaService.deletePost(id);
@@ -95,27 +121,26 @@ public class QnaController {
     @PostMapping("/{postId}/comments")
     public ResponseEntity<QnaCommentResponse> createComment(
             @PathVariable Long postId, @Valid @RequestBody QnaCommentRequest request,
-            HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        boolean isAdmin = admin != null;
+            HttpServletRequest httpRequest) {
+        boolean isAdmin = currentAdmin.isAdmin(httpRequest);
         return ResponseEntity.ok(qnaService.createComment(postId, request, isAdmin));
     }
 
     @PostMapping("/comments/{commentId}/check-password")
     public ResponseEntity<?> checkCommentPassword(
-            @PathVariable Long commentId, @Valid @RequestBody PasswordCheckRequest request) {
-        boolean matches = qnaService.checkCommentPassword(commentId, request.getPassword());
+            @PathVariable Long commentId, @Valid @RequestBody PasswordCheckRequest request,
+            HttpServletRequest httpRequest) {
+        boolean matches = verifyCommentPassword(commentId, request.getPassword(), httpRequest);
         return ResponseEntity.ok(Map.of("valid", matches));
     }
 
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<QnaCommentResponse> updateComment(
             @PathVariable Long commentId, @Valid @RequestBody QnaCommentUpdateRequest request,
-            HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        boolean isAdmin = admin != null;
+            HttpServletRequest httpRequest) {
+        boolean isAdmin = currentAdmin.isAdmin(httpRequest);
 
-        if (!isAdmin && !qnaService.checkCommentPassword(commentId, request.getPassword())) {
+        if (!isAdmin && !verifyCommentPassword(commentId, request.getPassword(), httpRequest)) {
             return ResponseEntity.status(403).build();
         }
         return ResponseEntity.ok(qnaService.updateComment(commentId, request.getContent()));
@@ -124,14 +149,27 @@ public class QnaController {
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long commentId, @Valid @RequestBody PasswordCheckRequest request,
-            HttpSession session) {
-        String admin = (String) session.getAttribute("admin");
-        boolean isAdmin = admin != null;
+            HttpServletRequest httpRequest) {
+        boolean isAdmin = currentAdmin.isAdmin(httpRequest);
 
-        if (!isAdmin && !qnaService.checkCommentPassword(commentId, request.getPassword())) {
+        if (!isAdmin && !verifyCommentPassword(commentId, request.getPassword(), httpRequest)) {
             return ResponseEntity.status(403).build();
         }
         qnaService.deleteComment(commentId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 비밀번호 확인은 모두 요청 제한을 거친다. 확인 전용 엔드포인트와 수정/삭제가 같은 버킷을 쓰므로
+     * 어느 경로로 시도해도 대상별 한도를 넘을 수 없다.
+     */
+    private boolean verifyPostPassword(Long id, String password, HttpServletRequest request) {
+        passwordAttemptLimiter.acquire(request.getRemoteAddr(), "post:" + id);
+        return qnaService.checkPostPassword(id, password);
+    }
+
+    private boolean verifyCommentPassword(Long commentId, String password, HttpServletRequest request) {
+        passwordAttemptLimiter.acquire(request.getRemoteAddr(), "comment:" + commentId);
+        return qnaService.checkCommentPassword(commentId, password);
+    }
 }
@@ -3,6 +3,7 @@ package com.smcompany.backend.controller;
 import com.smcompany.backend.dto.request.ReferenceCategoryRequest;
 import com.smcompany.backend.dto.response.ReferenceCategoryResponse;
 import com.smcompany.backend.service.ReferenceCategoryService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import java.util.List;
 public class ReferenceCategoryController {
 
     private final ReferenceCategoryService categoryService;
+    private final CurrentAdmin currentAdmin;
 
     @GetMapping
     public ResponseEntity<List<ReferenceCategoryResponse>> getAllCategories() {
@@ -24,18 +26,28 @@ public class ReferenceCategoryController {
 
     @PostMapping
     public ResponseEntity<ReferenceCategoryResponse> createCategory(
-            @Valid @RequestBody ReferenceCategoryRequest request) {
+            @Valid @RequestBody ReferenceCategoryRequest request, HttpServletRequest httpRequest) {
+        if (!currentAdmin.isAdmin(httpRequest)) {
+            return ResponseEntity.status(401).build();
+        }
         return ResponseEntity.ok(categoryService.createCategory(request));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ReferenceCategoryResponse> updateCategory(
-            @PathVariable Long id, @Valid @RequestBody ReferenceCategoryRequest request) {
+            @PathVariable Long id, @Valid @RequestBody ReferenceCategoryRequest request,
+            HttpServletRequest httpRequest) {
+        if (!currentAdmin.isAdmin(httpRequest)) {
+            return ResponseEntity.status(401).build();
+        }
         return ResponseEntity.ok(categoryService.updateCategory(id, request));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteCategory(@PathVariable Long id, HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
+            return ResponseEntity.status(401).build();
+        }
         categoryService.deleteCategory(id);
         return ResponseEntity.noContent().build();
     }
@@ -1,19 +1,31 @@
 package com.smcompany.backend.controller;
 
 import com.smcompany.backend.dto.request.ReferenceRequest;
+import com.smcompany.backend.dto.response.CursorPageResponse;
 import com.smcompany.backend.dto.response.ReferenceResponse;
+import com.smcompany.backend.service.FileMetadataCache;
+import com.smcompany.backend.service.ListPageCache;
+import com.smcompany.backend.service.ListPageCache.ListType;
 import com.smcompany.backend.service.ReferenceService;
+import com.smcompany.backend.service.StoredFileMetadata;
+import com.smcompany.backend.service.ThumbnailVariantService.VariantChoice;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -23,14 +35,33 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReferenceController {
 
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=60";
+
     private final ReferenceService referenceService;
+    private final FileResponseWriter fileResponseWriter;
+    private final ListPageCache listPageCache;
+    private final CurrentAdmin currentAdmin;
 
+    /** 기본 크기의 앞쪽 페이지는 미리 직렬화된 JSON 을 그대로 내려준다. */
     @GetMapping
-    public ResponseEntity<Page<ReferenceResponse>> getAllReferences(
+    public ResponseEntity<?> getAllReferences(
             @PageableDefault(size = 10) Pageable pageable) {
+        if (listPageCache.isCacheable(pageable, 10)) {
+            byte[] body = listPageCache.get(ListType.REFERENCES, pageable.getPageNumber(),
+                    () -> referenceService.getAllReferences(pageable));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
         return ResponseEntity.ok(referenceService.getAllReferences(pageable));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<ReferenceResponse>> getReferencesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(referenceService.getReferencesByCursor(cursor, Math.min(Math.max(size, 1), 100)));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Page<ReferenceResponse>> searchReferences(
             @RequestParam String keyword,
@@ -56,8 +87,12 @@ public class ReferenceController {
             @RequestParam(value = "description", required = false) String description,
             @RequestParam(value = "file", required = false) MultipartFile file,
             @RequestParam(value = "thumbnail", required = false) MultipartFile thumbnail,
-            @RequestParam(value = "images", required = false) List<MultipartFile> images) {
+            @RequestParam(value = "images", required = false) List<MultipartFile> images,
+            HttpServletRequest httpRequest) {
 
+        if (!currentAdmin.isAdmin(httpRequest)) {
+            return ResponseEntity.status(401).build();
+        }
         if (images != null && images.size() > 5) {
             return ResponseEntity.badRequest().build();
         }
@@ -71,52 +106,83 @@ public class ReferenceController {
     }
 
     @GetMapping("/{id}/thumbnail")
-    public ResponseEntity<Resource> getThumbnail(@PathVariable Long id) {
-        ReferenceResponse ref = referenceService.getReference(id);
-        if (ref.getThumbnailPath() == null) {
-            return ResponseEntity.notFound().build();
-        }
-        Resource resource = referenceService.loadThumbnail(ref.getThumbnailPath());
-        String ext = ref.getThumbnailPath().substring(ref.getThumbnailPath().lastIndexOf('.') + 1).toLowerCase();
-        MediaType mediaType = switch (ext) {
-            case "png" -> MediaType.IMAGE_PNG;
-            case "gif" -> MediaType.IMAGE_GIF;
-            case "webp" -> MediaType.parseMediaType("image/webp");
-            default -> MediaType.IMAGE_JPEG;
-        };
-        return ResponseEntity.ok().contentType(mediaType).body(resource);
+    public ResponseEntity<Resource> getThumbnail(@PathVariable Long id,
+                                                 @RequestParam(value = "w", required = false) Integer width,
+                                                 WebRequest webRequest) {
+        return referenceService.findThumbnail(id)
+                .map(thumbnail -> image(thumbnail, width, webRequest))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/images/{imageId}")
-    public ResponseEntity<Resource> getGalleryImage(@PathVariable Long imageId) {
-        Resource resource = referenceService.loadGalleryImage(imageId);
-        String filePath = referenceService.getGalleryImageFileName(imageId);
-        String ext = filePath.substring(filePath.lastIndexOf('.') + 1).toLowerCase();
-        MediaType mediaType = switch (ext) {
-            case "png" -> MediaType.IMAGE_PNG;
-            case "gif" -> MediaType.IMAGE_GIF;
-            case "webp" -> MediaType.parseMediaType("image/webp");
-            default -> MediaType.IMAGE_JPEG;
-        };
-        return ResponseEntity.ok().contentType(mediaType).body(resource);
+    public ResponseEntity<Resource> getGalleryImage(@PathVariable Long imageId,
+                                                    @RequestParam(value = "w", required = false) Integer width,
+                                                    WebRequest webRequest) {
+        return image(referenceService.getGalleryImage(imageId), width, webRequest);
     }
 
+    /**
+     * 썸네일/갤러리 이미지는 UUID 파일명으로 저장되어 내용이 바뀌지 않으므로 1년간 immutable 캐시를 허용한다.
+     * If-None-Match/If-Modified-Since 가 일치하면 파일 본문을 열지 않고 304 로 응답한다.
+     * <p>w 로 요청한 축소본을 생성하는 중이라 원본으로 대신 응답할 때만, 같은 URL 이 원본으로
+     * 굳어지지 않도록 짧게 캐시한다. 축소본이 만들어지지 않는 경우(원본이 더 좁은 경우 등)는 원본이 최종 응답이다.</p>
+     */
+    private ResponseEntity<Resource> image(StoredFileMetadata image, Integer width, WebRequest webRequest) {
+        String servedName = image.storedName();
+        long lastModified = image.lastModified();
+        MediaType mediaType = image.mediaType();
+        String cacheControl = IMMUTABLE_CACHE_CONTROL;
+        if (width != null) {
+            VariantChoice choice = referenceService.resolveThumbnailVariant(image, width);
+            if (choice.variant() != null) {
+                servedName = choice.variant();
+                lastModified = choice.lastModified();
+                mediaType = FileMetadataCache.imageMediaType(choice.variant());
+            } else if (choice.pending()) {
+                cacheControl = FALLBACK_CACHE_CONTROL;
+            }
+        }
+
+        String etag = "\"" + servedName + "\"";
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .eTag(etag)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .eTag(etag)
+                .lastModified(lastModified)
+                .body(referenceService.loadThumbnail(servedName));
+    }
+
+    /**
+     * 첨부파일 다운로드. Range/If-Range 를 지원해 중단된 다운로드를 이어받을 수 있다.
+     * HEAD 요청과 이어받기 요청(0 이 아닌 위치부터의 Range)은 다운로드 횟수에 포함하지 않는다.
+     */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long id) {
-        Resource resource = referenceService.downloadFile(id);
-        String fileName = referenceService.getOriginalFileName(id);
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        StoredFileMetadata file = referenceService.getDownloadFile(id);
+        String fileName = file.originalName() != null ? file.originalName() : file.storedName();
         String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
                 .replace("+", "%20");
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encodedFileName)
-                .body(resource);
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (!HttpMethod.HEAD.matches(request.getMethod()) && (range == null || range.startsWith("bytes=0-"))) {
+            referenceService.recordDownload(id);
+        }
+        fileResponseWriter.write(request, response, file.path(), file.size(), file.lastModified(),
+                file.mediaType(), "attachment; filename*=UTF-8''" + encodedFileName);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteReference(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteReference(@PathVariable Long id, HttpServletRequest request) {
+        if (!currentAdmin.isAdmin(request)) {
+            return ResponseEntity.status(401).build();
+        }
         referenceService.deleteReference(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,60 @@
+package com.smcompany.backend.dto.request;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 정보.
+ * <p>마지막으로 내려준 행의 정렬 키((공지 여부,) 작성 일시, id)를 담으며,
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 문자열로만 노출한다.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /** 공지글 여부 (Q&A 커서에서만 사용, 자료실은 null) */
+    private final Boolean notice;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(null, createdAt, id);
+    }
+
+    public static PageCursor of(Boolean notice, LocalDateTime createdAt, Long id) {
+        return new PageCursor(Boolean.TRUE.equals(notice), createdAt, id);
+    }
+
+    public String encode() {
+        String raw = (notice == null ? "" : (notice ? "1" : "0")) + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 빈 커서는 첫 페이지를 의미하므로 null 을 반환한다. */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            Boolean notice = parts[0].isEmpty() ? null : "1".equals(parts[0]);
+            return new PageCursor(notice, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.smcompany.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답.
+ * <p>전체 건수(count) 없이 다음 페이지 존재 여부와 다음 커서만 내려준다.</p>
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * size + 1 건으로 조회한 결과를 받아 페이지를 만든다.
+     * 초과분 한 건이 있으면 다음 페이지가 존재하는 것으로 본다.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
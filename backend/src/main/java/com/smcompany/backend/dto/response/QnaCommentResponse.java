@@ -5,7 +5,10 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -32,4 +35,37 @@ public class QnaCommentResponse {
                         : List.of())
                 .build();
     }
+
+    /**
+     * 게시글의 전체 댓글 목록(작성 순)으로 댓글 트리를 만든다.
+     * 부모 id 로 한 번 묶기만 하므로 O(n) 이며, 자식 컬렉션을 로딩하지 않아 추가 쿼리가 없다.
+     */
+    public static List<QnaCommentResponse> treeFrom(List<QnaComment> comments) {
+        Map<Long, QnaCommentResponse> byId = new HashMap<>(comments.size() * 2);
+        for (QnaComment comment : comments) {
+            byId.put(comment.getId(), QnaCommentResponse.builder()
+                    .id(comment.getId())
+                    .authorName(comment.getAuthorName())
+                    .content(comment.getContent())
+                    .isAdmin(comment.getIsAdmin())
+                    .createdAt(comment.getCreatedAt())
+                    .children(new ArrayList<>())
+                    .build());
+        }
+
+        List<QnaCommentResponse> roots = new ArrayList<>();
+        for (QnaComment comment : comments) {
+            QnaCommentResponse node = byId.get(comment.getId());
+            // 프록시의 id 조회는 부모 엔티티를 초기화하지 않는다.
+            QnaCommentResponse parent = comment.getParent() != null
+                    ? byId.get(comment.getParent().getId())
+                    : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
 }
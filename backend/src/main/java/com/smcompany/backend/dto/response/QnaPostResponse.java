@@ -20,14 +20,19 @@ public class QnaPostResponse {
     private LocalDateTime updatedAt;
 
     public static QnaPostResponse from(QnaPost post) {
+        return from(post, post.getViewCount());
+    }
+
+    /** 메모리에서 집계 중인 조회수를 반영해 상세 응답을 만든다. */
+    public static QnaPostResponse from(QnaPost post, Integer viewCount) {
         return QnaPostResponse.builder()
                 .id(post.getId())
                 .authorName(post.getAuthorName())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .isNotice(post.getIsNotice())
-                .viewCount(post.getViewCount())
-                .commentCount(post.getComments() != null ? post.getComments().size() : 0)
+                .viewCount(viewCount)
+                .commentCount(post.getCommentCount() != null ? post.getCommentCount() : 0)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -40,7 +45,7 @@ public class QnaPostResponse {
                 .title(post.getTitle())
                 .isNotice(post.getIsNotice())
                 .viewCount(post.getViewCount())
-                .commentCount(post.getComments() != null ? post.getComments().size() : 0)
+                .commentCount(post.getCommentCount() != null ? post.getCommentCount() : 0)
                 .createdAt(post.getCreatedAt())
                 .build();
     }
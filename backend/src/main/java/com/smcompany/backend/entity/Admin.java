@@ -35,6 +35,13 @@ public class Admin {
     @Column(nullable = false, length = 50)
     private String name;
 
+    /**
+     * 관리자 토큰 세대. 로그인/로그아웃 때마다 증가하며, 토큰에 담긴 세대가 이 값과 다르면
+     * 폐기된 토큰으로 본다 (관리자당 활성 로그인 1개 유지).
+     */
+    @Column(name = "token_generation")
+    private Long tokenGeneration;
+
     /** 계정 생성 일시 (최초 저장 시 자동 설정) */
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -58,4 +65,10 @@ public class Admin {
     public void updateProfile(String name) {
         this.name = name;
     }
+
+    /** 토큰 세대를 올려 이전에 발급된 토큰을 모두 무효화하고 새 세대를 반환한다. */
+    public long nextTokenGeneration() {
+        this.tokenGeneration = (tokenGeneration == null ? 0 : tokenGeneration) + 1;
+        return tokenGeneration;
+    }
 }
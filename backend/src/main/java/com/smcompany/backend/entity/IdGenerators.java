@@ -0,0 +1,25 @@
+package com.smcompany.backend.entity;
+
+/**
+ * 테이블 기반 pooled id 생성기 설정.
+ * <p>IDENTITY 전략은 INSERT 를 즉시 실행해야 id 를 알 수 있어 Hibernate 의 JDBC 배치가 꺼진다.
+ * 한 번에 여러 행이 저장되는 엔티티(갤러리 이미지, 첨부파일, 댓글)는 {@code id_generator} 테이블에서
+ * id 를 {@link #ALLOCATION_SIZE} 개씩 미리 할당받아 INSERT 를 배치로 묶는다.</p>
+ */
+public final class IdGenerators {
+
+    /** 시퀀스 값을 보관하는 테이블 */
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /** 한 번에 할당받는 id 개수 (hibernate.jdbc.batch_size 와 맞춘다) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String REFERENCE_IMAGE = "reference_image";
+    public static final String REFERENCE_FILE = "reference_file";
+    public static final String QNA_COMMENT = "qna_comment";
+
+    private IdGenerators() {
+    }
+}
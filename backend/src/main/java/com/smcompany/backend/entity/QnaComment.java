@@ -16,14 +16,19 @@ import java.util.List;
  * 셀프 참조(parent-children)를 통해 무한 깊이의 대댓글을 지원한다.</p>
  */
 @Entity
-@Table(name = "qna_comment")
+@Table(name = "qna_comment", indexes = {
+        @Index(name = "idx_qna_comment_post_created_at_id", columnList = "post_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class QnaComment {
 
-    /** 댓글 고유 식별자 (PK, Auto Increment) */
+    /** 댓글 고유 식별자 (PK, id_generator 테이블에서 pooled 할당) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.QNA_COMMENT)
+    @TableGenerator(name = IdGenerators.QNA_COMMENT, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.QNA_COMMENT, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     /** 소속 게시글 (FK → qna_post.id) */
@@ -16,7 +16,9 @@ import java.util.List;
  * 게시글 수정/삭제 시 비밀번호 검증을 통해 작성자를 확인한다.</p>
  */
 @Entity
-@Table(name = "qna_post")
+@Table(name = "qna_post", indexes = {
+        @Index(name = "idx_qna_post_notice_created_at_id", columnList = "is_notice, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class QnaPost {
@@ -46,10 +48,17 @@ public class QnaPost {
     @Column(name = "is_notice")
     private Boolean isNotice = false;
 
-    /** 조회수 (기본값 0) */
+    /** 조회수 (고유 조회자 추정치, QnaViewCounter 가 주기적으로 반영) */
     @Column(name = "view_count")
     private Integer viewCount = 0;
 
+    /**
+     * 댓글 수 (대댓글 포함, 반정규화 컬럼).
+     * 댓글 작성/삭제 시 QnaPostRepository 의 원자적 UPDATE 로만 변경되며, 게시글 수정 시 덮어쓰지 않는다.
+     */
+    @Column(name = "comment_count", updatable = false)
+    private Integer commentCount = 0;
+
     /** 게시글 작성 일시 (최초 저장 시 자동 설정) */
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -81,10 +90,7 @@ public class QnaPost {
         this.content = content;
         this.isNotice = isNotice != null ? isNotice : false;
         this.viewCount = 0;
-    }
-
-    public void incrementViewCount() {
-        this.viewCount++;
+        this.commentCount = 0;
     }
 
     public void update(String title, String content, Boolean isNotice) {
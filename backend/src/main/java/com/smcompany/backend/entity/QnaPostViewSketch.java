@@ -0,0 +1,37 @@
+package com.smcompany.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Q&A 게시글 고유 조회자 스케치 엔티티.
+ * <p>게시글별 HyperLogLog 레지스터를 저장한다. 목록/상세 조회 시 함께 로딩되지 않도록
+ * 게시글과 연관관계 없이 별도 테이블로 두며, 읽기/쓰기는 QnaViewCounter 가 JDBC 로 처리한다.</p>
+ */
+@Entity
+@Table(name = "qna_post_view_sketch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QnaPostViewSketch {
+
+    /** 게시글 식별자 (qna_post.id) */
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    /** HyperLogLog 레지스터 (precision 10 → 1024 bytes) */
+    @Column(nullable = false, columnDefinition = "VARBINARY(1024)")
+    private byte[] registers;
+
+    /** 스케치 도입 이전까지 누적된 조회수 (view_count = base_count + 고유 조회자 추정치) */
+    @Column(name = "base_count", nullable = false)
+    private Long baseCount;
+
+    /** 마지막 반영 일시 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
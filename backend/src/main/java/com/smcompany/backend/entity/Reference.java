@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,7 +17,13 @@ import java.util.List;
  * <p>업로드된 파일(PDF, 문서 등)의 메타 정보와 다운로드 이력을 관리한다.</p>
  */
 @Entity
-@Table(name = "reference")
+@Table(name = "reference", indexes = {
+        @Index(name = "idx_reference_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_reference_file_path", columnList = "file_path"),
+        @Index(name = "idx_reference_thumbnail_path", columnList = "thumbnail_path")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reference {
@@ -52,11 +60,13 @@ public class Reference {
 
     /** 추가 첨부파일 목록 */
     @OneToMany(mappedBy = "reference", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-files")
     @OrderBy("sortOrder ASC")
     private List<ReferenceFile> files = new ArrayList<>();
 
     /** 갤러리 이미지 목록 (최대 5장) */
     @OneToMany(mappedBy = "reference", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-images")
     @OrderBy("sortOrder ASC")
     private List<ReferenceImage> images = new ArrayList<>();
 
@@ -95,8 +105,9 @@ public class Reference {
         this.downloadCount = 0;
     }
 
-    public void incrementDownloadCount() {
-        this.downloadCount++;
+    /** 갤러리 이미지를 한 번에 연결한다. 저장은 호출 측에서 saveAll 로 일괄 처리한다. */
+    public void attachImages(List<ReferenceImage> newImages) {
+        this.images.addAll(newImages);
     }
 
     public void update(String title, String description, ReferenceCategory category) {
@@ -2,10 +2,15 @@ package com.smcompany.backend.repository;
 
 import com.smcompany.backend.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface AdminRepository extends JpaRepository<Admin, Long> {
     Optional<Admin> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    @Query("SELECT COALESCE(a.tokenGeneration, 0) FROM Admin a WHERE a.id = :id")
+    Optional<Long> findTokenGenerationById(@Param("id") Long id);
 }
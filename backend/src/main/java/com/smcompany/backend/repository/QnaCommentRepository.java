@@ -6,5 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface QnaCommentRepository extends JpaRepository<QnaComment, Long> {
-    List<QnaComment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId);
+    /** 게시글의 댓글 전체(대댓글 포함)를 작성 순으로 한 번에 조회 (트리는 메모리에서 조립) */
+    List<QnaComment> findByPostIdOrderByCreatedAtAscIdAsc(Long postId);
 }
@@ -1,13 +1,66 @@
 package com.smcompany.backend.repository;
 
 import com.smcompany.backend.entity.QnaPost;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface QnaPostRepository extends JpaRepository<QnaPost, Long> {
     Page<QnaPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
     Page<QnaPost> findAllByOrderByIsNoticeDescCreatedAtDesc(Pageable pageable);
     Page<QnaPost> findByTitleContainingOrContentContainingOrderByIsNoticeDescCreatedAtDesc(
             String title, String content, Pageable pageable);
+
+    // ===== 커서(keyset) 페이지네이션: (is_notice, created_at, id) 기준 seek, count 쿼리 없음 =====
+
+    @Query("select p from QnaPost p order by p.isNotice desc, p.createdAt desc, p.id desc")
+    List<QnaPost> findAllInCursorOrder(Limit limit);
+
+    /** 마지막 행이 공지글일 때: 남은 공지글 + 모든 일반글 */
+    @Query("select p from QnaPost p "
+            + "where (p.isNotice = true and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))) "
+            + "or p.isNotice = false "
+            + "order by p.isNotice desc, p.createdAt desc, p.id desc")
+    List<QnaPost> findAfterNoticeCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /** 마지막 행이 일반글일 때: 남은 일반글 */
+    @Query("select p from QnaPost p "
+            + "where p.isNotice = false and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<QnaPost> findAfterPostCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /** 검색 색인 재구성용 id 순 keyset 조회 */
+    List<QnaPost> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // ===== 댓글 수 (comment_count) =====
+
+    // JPQL 로 작성해 Hibernate 가 qna_post 만 갱신 대상으로 인식하게 한다.
+    // 네이티브 UPDATE 는 갱신 테이블을 알 수 없어 모든 2차 캐시 영역을 비운다.
+
+    /**
+     * 댓글 수를 DB 에서 원자적으로 증감한다 (동시 작성/삭제에도 갱신 유실 없음).
+     * 아직 채워지지 않은(NULL) 게시글은 증감 대신 현재 댓글 수를 세어 채우므로, 호출 전에 댓글 변경을 flush 해야 한다.
+     */
+    @Modifying
+    @Query("update QnaPost p set p.commentCount = case "
+            + "when p.commentCount is null then "
+            + "cast((select count(c) from QnaComment c where c.post.id = :id) as Integer) "
+            + "when p.commentCount + :delta < 0 then 0 "
+            + "else p.commentCount + :delta end "
+            + "where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /** 컬럼 추가 이전 게시글(comment_count 가 NULL)의 댓글 수를 채운다. */
+    @Modifying
+    @Query("update QnaPost p set p.commentCount = "
+            + "cast((select count(c) from QnaComment c where c.post.id = p.id) as Integer) "
+            + "where p.commentCount is null")
+    int backfillCommentCounts();
 }
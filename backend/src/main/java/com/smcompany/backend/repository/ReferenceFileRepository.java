@@ -7,4 +7,5 @@ import java.util.List;
 
 public interface ReferenceFileRepository extends JpaRepository<ReferenceFile, Long> {
     List<ReferenceFile> findByReferenceIdOrderBySortOrderAsc(Long referenceId);
+    long countByFilePath(String filePath);
 }
@@ -2,9 +2,16 @@ package com.smcompany.backend.repository;
 
 import com.smcompany.backend.entity.ReferenceImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReferenceImageRepository extends JpaRepository<ReferenceImage, Long> {
     List<ReferenceImage> findByReferenceIdOrderBySortOrderAsc(Long referenceId);
+    long countByFilePath(String filePath);
+
+    @Query("select i.filePath as filePath, i.fileName as fileName from ReferenceImage i where i.id = :id")
+    Optional<StoredFileView> findStoredFileById(@Param("id") Long id);
 }
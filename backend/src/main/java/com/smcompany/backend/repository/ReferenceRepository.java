@@ -1,13 +1,62 @@
 package com.smcompany.backend.repository;
 
 import com.smcompany.backend.entity.Reference;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ReferenceRepository extends JpaRepository<Reference, Long> {
-    Page<Reference> findByCategoryId(Long categoryId, Pageable pageable);
-    Page<Reference> findAllByOrderByCreatedAtDesc(Pageable pageable);
-    Page<Reference> findByTitleContainingOrDescriptionContainingOrderByCreatedAtDesc(
-            String title, String description, Pageable pageable);
+
+    long countByFilePath(String filePath);
+    long countByThumbnailPath(String thumbnailPath);
+
+    // ===== 파일 응답용 경량 조회 (엔티티/연관관계 로딩 없음) =====
+
+    @Query("select r.filePath as filePath, r.fileName as fileName from Reference r where r.id = :id")
+    Optional<StoredFileView> findDownloadFileById(@Param("id") Long id);
+
+    @Query("select r.thumbnailPath from Reference r where r.id = :id and r.thumbnailPath is not null")
+    Optional<String> findThumbnailPathById(@Param("id") Long id);
+
+    // ===== 목록 조회용 2단계 fetch (id 페이지 → 배치 로딩) =====
+
+    @Query("select r.id from Reference r order by r.createdAt desc, r.id desc")
+    Page<Long> findIdsByOrderByCreatedAtDesc(Pageable pageable);
+
+    @Query(value = "select r.id from Reference r where r.category.id = :categoryId",
+            countQuery = "select count(r) from Reference r where r.category.id = :categoryId")
+    Page<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = "select r.id from Reference r "
+            + "where r.title like concat('%', :keyword, '%') or r.description like concat('%', :keyword, '%') "
+            + "order by r.createdAt desc, r.id desc",
+            countQuery = "select count(r) from Reference r "
+            + "where r.title like concat('%', :keyword, '%') or r.description like concat('%', :keyword, '%')")
+    Page<Long> findIdsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // ===== 커서(keyset) 페이지네이션: (created_at, id) 기준 seek, count 쿼리 없음 =====
+
+    @Query("select r.id from Reference r order by r.createdAt desc, r.id desc")
+    List<Long> findIdsOrderByCreatedAtDesc(Limit limit);
+
+    @Query("select r.id from Reference r "
+            + "where r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id) "
+            + "order by r.createdAt desc, r.id desc")
+    List<Long> findIdsAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /** 카테고리와 추가 첨부파일을 한 번에 로딩한다. (bag 두 개를 동시에 fetch join 할 수 없어 이미지는 별도 조회) */
+    @Query("select distinct r from Reference r left join fetch r.category left join fetch r.files where r.id in :ids")
+    List<Reference> findWithCategoryAndFilesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 같은 영속성 컨텍스트에 이미 올라온 자료들의 갤러리 이미지 컬렉션을 채운다. */
+    @Query("select distinct r from Reference r left join fetch r.images where r.id in :ids")
+    List<Reference> findWithImagesByIdIn(@Param("ids") Collection<Long> ids);
 }
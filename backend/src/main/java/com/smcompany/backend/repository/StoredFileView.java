@@ -0,0 +1,9 @@
+package com.smcompany.backend.repository;
+
+/**
+ * 파일 응답에 필요한 컬럼만 읽는 프로젝션 (저장 파일명, 원본 파일명).
+ */
+public interface StoredFileView {
+    String getFilePath();
+    String getFileName();
+}
@@ -0,0 +1,8 @@
+package com.smcompany.backend.service;
+
+/**
+ * 인증된 관리자 (id, 아이디, 이름).
+ * 서명 토큰 또는 세션에서 복원되며, 컨트롤러는 이 값만으로 관리자 여부를 판단한다.
+ */
+public record AdminPrincipal(Long id, String username, String name) {
+}
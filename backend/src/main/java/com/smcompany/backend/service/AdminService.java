@@ -4,7 +4,7 @@ import com.smcompany.backend.entity.Admin;
 import com.smcompany.backend.repository.AdminRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +17,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AdminService {
 
     private final AdminRepository adminRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final JdbcTemplate jdbcTemplate;
 
     /** username → 현재 활성 세션 (동시 로그인 방지) */
     private final ConcurrentHashMap<String, HttpSession> activeSessions = new ConcurrentHashMap<>();
@@ -31,15 +32,23 @@ public class AdminService {
     @Value("${app.admin.name}")
     private String adminName;
 
+    /**
+     * 로그인 성공 시 저장된 해시 비용이 낮으면 새 비용의 해시로 교체한다.
+     * <p>해시 풀을 기다리는 동안 DB 커넥션을 잡지 않도록, 해시는 트랜잭션 없이 JdbcTemplate 으로 읽고
+     * 검증에 성공한 뒤에만 관리자 엔티티를 조회한다.</p>
+     */
     public Admin authenticate(String username, String password) {
-        Admin admin = adminRepository.findByUsername(username)
+        String hash = jdbcTemplate.queryForList("SELECT password FROM admin WHERE username = ?", String.class, username)
+                .stream().findFirst()
                 .orElseThrow(() -> new RuntimeException("아이디 또는 비밀번호가 올바르지 않습니다."));
 
-        if (!passwordEncoder.matches(password, admin.getPassword())) {
+        if (!passwordHashingService.verify(password, hash, upgraded -> jdbcTemplate.update(
+                "UPDATE admin SET password = ? WHERE username = ?", upgraded, username))) {
             throw new RuntimeException("아이디 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        return admin;
+        return adminRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("아이디 또는 비밀번호가 올바르지 않습니다."));
     }
 
     public void registerSession(String username, HttpSession newSession) {
@@ -61,7 +70,7 @@ public class AdminService {
         if (!adminRepository.existsByUsername(adminUsername)) {
             Admin admin = Admin.builder()
                     .username(adminUsername)
-                    .password(passwordEncoder.encode(adminPassword))
+                    .password(passwordHashingService.hash(adminPassword))
                     .name(adminName)
                     .build();
             adminRepository.save(admin);
@@ -80,7 +89,7 @@ public class AdminService {
         }
         Admin admin = Admin.builder()
                 .username(username)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.hash(password))
                 .name(name)
                 .build();
         return adminRepository.save(admin);
@@ -96,11 +105,11 @@ public class AdminService {
         Admin admin = adminRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("관리자를 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(currentPassword, admin.getPassword())) {
+        if (!passwordHashingService.verify(currentPassword, admin.getPassword(), upgraded -> { })) {
             throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
         }
 
-        admin.updatePassword(passwordEncoder.encode(newPassword));
+        admin.updatePassword(passwordHashingService.hash(newPassword));
     }
 
     @Transactional
@@ -0,0 +1,206 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.smcompany.backend.entity.Admin;
+import com.smcompany.backend.repository.AdminRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 관리자 토큰.
+ * <p>토큰은 {@code base64url(id:세대:만료:아이디:이름).base64url(서명)} 형태이며, 검증은 서명/만료 확인과
+ * 관리자별 토큰 세대 비교만으로 끝나 세션 저장소나 요청마다의 DB 조회가 필요 없다. 로그인/로그아웃 시
+ * 세대를 올려 이전 토큰을 폐기하므로 관리자당 활성 로그인은 하나로 유지된다. 세대는 노드별로
+ * {@code generation-cache-ttl} 동안 캐시되므로, 다른 노드에서의 폐기는 그 시간 안에 반영된다.</p>
+ * <p>여러 백엔드 인스턴스가 같은 토큰을 검증하려면 {@code app.admin.token.secret} 을 모든 노드에 같게 설정해야 한다.
+ * 토큰 모드에서 secret 이 없거나 32바이트보다 짧으면 기동하지 않는다.</p>
+ */
+@Component
+public class AdminTokenService {
+
+    public static final String COOKIE_NAME = "ADMIN_TOKEN";
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    /** HMAC-SHA256 키 최소 길이 (해시 출력 길이) */
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** 서명 검증을 통과한 토큰 내용 */
+    public record TokenClaims(AdminPrincipal admin, long generation, long expiresAt) {
+    }
+
+    private final AdminRepository adminRepository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final boolean cookieSecure;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    /** 관리자 id → 현재 토큰 세대 (삭제된 관리자는 -1) */
+    private final LoadingCache<Long, Long> generations;
+
+    public AdminTokenService(AdminRepository adminRepository,
+                             @Value("${app.admin.token.enabled:false}") boolean enabled,
+                             @Value("${app.admin.token.secret:}") String secret,
+                             @Value("${app.admin.token.ttl:30m}") Duration ttl,
+                             @Value("${app.admin.token.generation-cache-ttl:30s}") Duration generationCacheTtl,
+                             @Value("${app.admin.token.cookie-secure:false}") boolean cookieSecure) {
+        this.adminRepository = adminRepository;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.cookieSecure = cookieSecure;
+        this.key = new SecretKeySpec(secretBytes(secret, enabled), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(generationCacheTtl)
+                .maximumSize(10_000)
+                .build(id -> adminRepository.findTokenGenerationById(id).orElse(-1L));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 로그인: 세대를 올려 기존 토큰을 폐기하고 새 토큰을 발급한다. */
+    @Transactional
+    public String issueOnLogin(Long adminId) {
+        Admin admin = adminRepository.findById(adminId)
+                .orElseThrow(() -> new RuntimeException("관리자를 찾을 수 없습니다."));
+        long generation = admin.nextTokenGeneration();
+        generations.put(adminId, generation);
+        return sign(new AdminPrincipal(admin.getId(), admin.getUsername(), admin.getName()), generation);
+    }
+
+    /** 같은 세대로 만료 시각만 늘린(또는 이름만 바꾼) 토큰을 발급한다. */
+    public String reissue(TokenClaims claims, AdminPrincipal admin) {
+        return sign(admin, claims.generation());
+    }
+
+    /** 로그아웃: 세대를 올려 발급된 토큰을 모두 무효화한다. */
+    @Transactional
+    public void revoke(Long adminId) {
+        adminRepository.findById(adminId).ifPresent(admin -> generations.put(adminId, admin.nextTokenGeneration()));
+    }
+
+    /** 관리자 삭제 시 캐시된 세대를 버려 다음 검증에서 토큰이 거절되게 한다. */
+    public void forget(Long adminId) {
+        generations.invalidate(adminId);
+    }
+
+    /** 서명, 만료, 세대를 확인한다. 하나라도 맞지 않으면 empty. */
+    public Optional<TokenClaims> verify(String token) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            String payload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac(payload))) {
+                return Optional.empty();
+            }
+            String[] parts = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":", -1);
+            if (parts.length != 5) {
+                return Optional.empty();
+            }
+            long id = Long.parseLong(parts[0]);
+            long generation = Long.parseLong(parts[1]);
+            long expiresAt = Long.parseLong(parts[2]);
+            if (expiresAt <= System.currentTimeMillis() || generation != generations.get(id)) {
+                return Optional.empty();
+            }
+            AdminPrincipal admin = new AdminPrincipal(id, decodeField(parts[3]), decodeField(parts[4]));
+            return Optional.of(new TokenClaims(admin, generation, expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /** 남은 유효 시간이 절반 이하이면 갱신 대상 */
+    public boolean shouldRenew(TokenClaims claims) {
+        return claims.expiresAt() - System.currentTimeMillis() < ttl.toMillis() / 2;
+    }
+
+    public ResponseCookie cookie(String token) {
+        return cookieBuilder(token).maxAge(ttl).build();
+    }
+
+    public ResponseCookie expiredCookie() {
+        return cookieBuilder("").maxAge(0).build();
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private ResponseCookie.ResponseCookieBuilder cookieBuilder(String value) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/api");
+    }
+
+    private String sign(AdminPrincipal admin, long generation) {
+        String claims = admin.id() + ":" + generation + ":" + (System.currentTimeMillis() + ttl.toMillis())
+                + ":" + encodeField(admin.username()) + ":" + encodeField(admin.name());
+        String payload = ENCODER.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private byte[] mac(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encodeField(String value) {
+        return ENCODER.encodeToString((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeField(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 토큰 모드이면 설정된 secret 을 키로 쓴다. 임의 키로 대체하면 노드끼리 토큰을 검증하지 못하고
+     * 재시작마다 로그아웃되므로, secret 이 없거나 짧으면 기동을 중단한다.
+     * 토큰 모드가 아니면 토큰을 발급하지 않으므로 임의 키를 쓴다.
+     */
+    private static byte[] secretBytes(String secret, boolean enabled) {
+        if (enabled) {
+            byte[] bytes = secret == null ? new byte[0] : secret.strip().getBytes(StandardCharsets.UTF_8);
+            if (bytes.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("app.admin.token.enabled=true 이면 app.admin.token.secret 을 "
+                        + MIN_SECRET_BYTES + "바이트 이상으로 모든 노드에 같게 설정해야 합니다.");
+            }
+            return bytes;
+        }
+        byte[] random = new byte[MIN_SECRET_BYTES];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,98 @@
+package com.smcompany.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다운로드 횟수 쓰기 지연(write-behind) 버퍼.
+ * <p>다운로드마다 reference 행을 갱신하지 않고 자료 id 별 {@link LongAdder} 에 락 없이 누적한 뒤,
+ * 주기적으로(그리고 종료 시) {@code download_count = download_count + ?} 배치 UPDATE 한 번으로 반영한다.
+ * JDBC 로 직접 갱신하므로 반영된 자료는 2차 캐시에서 제거해 다음 조회 때 새 값을 읽게 한다.
+ * 목록 페이지 캐시는 비우지 않으며, 목록의 다운로드 횟수는 페이지가 다시 만들어질 때 반영된다.</p>
+ */
+@Slf4j
+@Component
+public class DownloadCountBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE reference SET download_count = COALESCE(download_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceCatalogCache referenceCatalogCache;
+    private final TransactionTemplate flushTransaction;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public DownloadCountBuffer(JdbcTemplate jdbcTemplate, ReferenceCatalogCache referenceCatalogCache,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.referenceCatalogCache = referenceCatalogCache;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void increment(Long referenceId) {
+        pending.computeIfAbsent(referenceId, id -> new LongAdder()).increment();
+    }
+
+    /** 아직 DB 에 반영되지 않은 다운로드 횟수 */
+    public long pendingCount(Long referenceId) {
+        LongAdder adder = pending.get(referenceId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 누적된 증가분을 DB 에 반영한다.
+     * <p>읽은 값만큼만 차감하므로 flush 도중 들어온 다운로드는 다음 주기로 넘어가고 유실되지 않는다.
+     * 배치는 한 트랜잭션으로 실행하므로 전부 반영되거나 전부 취소되고,
+     * 실패하면 차감했던 값을 되돌려 다음 주기에 재시도한다(일부만 반영된 채 다시 더해지지 않는다).</p>
+     */
+    @Scheduled(fixedDelayString = "${app.download-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<Map.Entry<Long, Long>> drained = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta == 0) {
+                continue;
+            }
+            entry.getValue().add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+            drained.add(Map.entry(entry.getKey(), delta));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            referenceCatalogCache.evictReferenceRows(drained.stream().map(Map.Entry::getKey).toList());
+        } catch (DataAccessException | TransactionException e) {
+            drained.forEach(entry -> pending.computeIfAbsent(entry.getKey(), id -> new LongAdder())
+                    .add(entry.getValue()));
+            log.warn("다운로드 횟수 반영 실패 ({}건), 다음 주기에 재시도합니다: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /** 자료 삭제 시 반영할 필요가 없는 누적분을 버린다. */
+    public void discard(Long referenceId) {
+        pending.remove(referenceId);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,137 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smcompany.backend.repository.ReferenceImageRepository;
+import com.smcompany.backend.repository.ReferenceRepository;
+import com.smcompany.backend.repository.StoredFileView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 썸네일/갤러리 이미지/첨부파일 응답용 메타데이터 캐시.
+ * <p>미스일 때만 필요한 컬럼만 읽는 프로젝션 쿼리 한 번과 파일 속성 조회 한 번을 수행하고,
+ * 이후 같은 파일 요청은 DB 와 파일시스템 조회 없이 응답한다. 저장 파일은 내용 주소(또는 UUID)
+ * 이름이라 내용이 바뀌지 않으므로, 자료 삭제 시에만 무효화한다.</p>
+ */
+@Component
+public class FileMetadataCache {
+
+    private enum Kind {
+        DOWNLOAD, THUMBNAIL, GALLERY_IMAGE
+    }
+
+    private record Key(Kind kind, Long id) {
+    }
+
+    private final ReferenceRepository referenceRepository;
+    private final ReferenceImageRepository referenceImageRepository;
+    private final FileStorageService fileStorageService;
+    private final Cache<Key, StoredFileMetadata> cache;
+
+    public FileMetadataCache(ReferenceRepository referenceRepository,
+                             ReferenceImageRepository referenceImageRepository,
+                             FileStorageService fileStorageService,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.file-metadata-cache.maximum-size:20000}") long maximumSize,
+                             @Value("${app.file-metadata-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.referenceRepository = referenceRepository;
+        this.referenceImageRepository = referenceImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "file-metadata");
+    }
+
+    /** 자료 첨부파일. 자료나 파일이 없으면 empty. */
+    public Optional<StoredFileMetadata> findDownload(Long referenceId) {
+        return Optional.ofNullable(cache.get(new Key(Kind.DOWNLOAD, referenceId), key ->
+                referenceRepository.findDownloadFileById(referenceId)
+                        .filter(view -> view.getFilePath() != null)
+                        .map(view -> describe(fileStorageService.resolveFile(view.getFilePath()),
+                                view.getFilePath(), view.getFileName(), downloadMediaType(view.getFileName())))
+                        .orElse(null)));
+    }
+
+    /** 자료 대표 썸네일. 자료가 없거나 썸네일이 없으면 empty. */
+    public Optional<StoredFileMetadata> findThumbnail(Long referenceId) {
+        return Optional.ofNullable(cache.get(new Key(Kind.THUMBNAIL, referenceId), key ->
+                referenceRepository.findThumbnailPathById(referenceId)
+                        .map(path -> describe(fileStorageService.resolveThumbnail(path), path, path,
+                                imageMediaType(path)))
+                        .orElse(null)));
+    }
+
+    /** 갤러리 이미지. 이미지가 없으면 empty. */
+    public Optional<StoredFileMetadata> findGalleryImage(Long imageId) {
+        return Optional.ofNullable(cache.get(new Key(Kind.GALLERY_IMAGE, imageId), key ->
+                referenceImageRepository.findStoredFileById(imageId)
+                        .map(view -> describe(fileStorageService.resolveThumbnail(view.getFilePath()),
+                                view.getFilePath(), view.getFileName(), imageMediaType(view.getFilePath())))
+                        .orElse(null)));
+    }
+
+    /** 트랜잭션 커밋 후 자료와 갤러리 이미지의 메타데이터를 제거한다. */
+    public void invalidateAfterCommit(Long referenceId, Collection<Long> imageIds) {
+        Runnable action = () -> {
+            cache.invalidate(new Key(Kind.DOWNLOAD, referenceId));
+            cache.invalidate(new Key(Kind.THUMBNAIL, referenceId));
+            imageIds.forEach(id -> cache.invalidate(new Key(Kind.GALLERY_IMAGE, id)));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** 썸네일/갤러리 이미지 파일명의 확장자로 이미지 타입을 정한다. */
+    public static MediaType imageMediaType(String storedName) {
+        String ext = storedName.substring(storedName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return switch (ext) {
+            case "png" -> MediaType.IMAGE_PNG;
+            case "gif" -> MediaType.IMAGE_GIF;
+            case "webp" -> MediaType.parseMediaType("image/webp");
+            default -> MediaType.IMAGE_JPEG;
+        };
+    }
+
+    private MediaType downloadMediaType(String originalName) {
+        return originalName == null ? MediaType.APPLICATION_OCTET_STREAM
+                : MediaTypeFactory.getMediaType(originalName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    /** 크기와 수정 시각을 한 번의 속성 조회로 읽는다. */
+    private StoredFileMetadata describe(Path path, String storedName, String originalName, MediaType mediaType) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new StoredFileMetadata(storedName, originalName, mediaType, path,
+                    attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + storedName, e);
+        }
+    }
+}
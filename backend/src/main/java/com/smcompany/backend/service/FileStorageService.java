@@ -1,5 +1,11 @@
 package com.smcompany.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -7,27 +13,83 @@ import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.UUID;
 
+/**
+ * 업로드 파일/썸네일 저장소.
+ * <p>저장/전송/삭제 시간은 {@code storage.operation} 타이머(operation 태그)로,
+ * 읽고 쓴 바이트 수는 {@code storage.bytes.read}/{@code storage.bytes.written} 카운터로 기록한다.</p>
+ */
 @Service
 public class FileStorageService {
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    /** true 이면 업로드 내용의 SHA-256 을 파일명으로 사용해 같은 파일을 한 번만 저장한다. */
+    @Value("${file.content-addressed:true}")
+    private boolean contentAddressed;
+
+    /** 공유된 지 얼마 안 된 blob 은 정리하지 않는 유예 시간 (업로드 직후 커밋 전 경쟁 방지) */
+    @Value("${file.release-grace-ms:60000}")
+    private long releaseGraceMillis;
+
     private Path fileStoragePath;
     private Path thumbnailStoragePath;
 
+    /**
+     * 유예 시간 안에 저장(새로 쓰거나 기존 blob 공유)된 blob 경로.
+     * blob 은 불변이라 수정 시각이 ETag/Last-Modified 에 쓰이므로 파일 속성 대신 메모리에 기록한다.
+     */
+    private Cache<Path, Boolean> recentlyStored;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter bytesRead;
+    private final Counter bytesWritten;
+    private final Timer storeTimer;
+    private final Timer variantTimer;
+    private final Timer transferTimer;
+    private final Timer deleteTimer;
+
+    public FileStorageService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.bytesRead = Counter.builder("storage.bytes.read").baseUnit(BaseUnits.BYTES).register(meterRegistry);
+        this.bytesWritten = Counter.builder("storage.bytes.written").baseUnit(BaseUnits.BYTES).register(meterRegistry);
+        this.storeTimer = operationTimer("store");
+        this.variantTimer = operationTimer("store_variant");
+        this.transferTimer = operationTimer("transfer");
+        this.deleteTimer = operationTimer("delete");
+    }
+
+    private Timer operationTimer(String operation) {
+        return Timer.builder("storage.operation").tag("operation", operation).register(meterRegistry);
+    }
+
     @PostConstruct
     public void init() {
         this.fileStoragePath = Paths.get(uploadDir, "files").toAbsolutePath().normalize();
         this.thumbnailStoragePath = Paths.get(uploadDir, "thumbnails").toAbsolutePath().normalize();
+        this.recentlyStored = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(releaseGraceMillis))
+                .build();
         try {
             Files.createDirectories(fileStoragePath);
             Files.createDirectories(thumbnailStoragePath);
@@ -39,28 +101,69 @@ public class FileStorageService {
     public String storeFile(MultipartFile file) {
         String originalFileName = file.getOriginalFilename();
         String extension = getExtension(originalFileName);
-        String storedFileName = UUID.randomUUID() + extension;
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
+            if (contentAddressed) {
+                return storeContentAddressed(file, fileStoragePath, "", extension);
+            }
+            String storedFileName = UUID.randomUUID() + extension;
             Path targetLocation = fileStoragePath.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            bytesWritten.increment(Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING));
             return storedFileName;
         } catch (IOException e) {
             throw new RuntimeException("파일 저장에 실패했습니다: " + originalFileName, e);
+        } finally {
+            sample.stop(storeTimer);
         }
     }
 
     public String storeThumbnail(MultipartFile file) {
         String originalFileName = file.getOriginalFilename();
         String extension = getExtension(originalFileName);
-        String storedFileName = "thumb_" + UUID.randomUUID() + extension;
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
+            if (contentAddressed) {
+                return storeContentAddressed(file, thumbnailStoragePath, "thumb_", extension);
+            }
+            String storedFileName = "thumb_" + UUID.randomUUID() + extension;
             Path targetLocation = thumbnailStoragePath.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            bytesWritten.increment(Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING));
             return storedFileName;
         } catch (IOException e) {
             throw new RuntimeException("썸네일 저장에 실패했습니다: " + originalFileName, e);
+        } finally {
+            sample.stop(storeTimer);
+        }
+    }
+
+    /**
+     * 업로드 스트림을 임시 파일로 쓰면서 SHA-256 을 계산하고, 해시를 파일명으로 하는 blob 으로 저장한다.
+     * <p>같은 내용의 blob 이 이미 있으면 임시 파일을 버리고 기존 blob 을 공유한다. 어느 쪽이든 저장 시각을 기록해
+     * 아직 커밋되지 않은 자료의 blob 이 다른 자료 삭제와 겹쳐 정리되지 않도록 한다({@link #releaseFile}).
+     * 기존 blob 은 다시 쓰지 않으므로 수정 시각(ETag/Last-Modified)과 inode 가 그대로 유지된다.</p>
+     */
+    private String storeContentAddressed(MultipartFile file, Path directory, String prefix,
+                                         String extension) throws IOException {
+        Path temp = Files.createTempFile(directory, "upload_", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                bytesWritten.increment(Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING));
+            }
+            String storedFileName = prefix + HexFormat.of().formatHex(digest.digest()) + extension.toLowerCase();
+            Path target = directory.resolve(storedFileName);
+            recentlyStored.put(target, Boolean.TRUE);
+            try {
+                // rename 은 POSIX 에서 기존 파일을 덮어쓰므로, 대상이 있으면 실패하는 하드 링크로 원자적으로 게시한다.
+                Files.createLink(target, temp);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 이미 저장되어 있으면 그대로 공유한다.
+            }
+            return storedFileName;
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
@@ -90,21 +193,150 @@ public class FileStorageService {
         }
     }
 
+    /** 썸네일 파일의 수정 시각(ms). 본문을 읽지 않고 파일 속성만 조회한다. */
+    public long getThumbnailLastModified(String fileName) {
+        try {
+            Path filePath = thumbnailStoragePath.resolve(fileName).normalize();
+            return Files.getLastModifiedTime(filePath).toMillis();
+        } catch (IOException e) {
+            throw new RuntimeException("썸네일을 찾을 수 없습니다: " + fileName, e);
+        }
+    }
+
+    public Path resolveThumbnail(String fileName) {
+        Path filePath = thumbnailStoragePath.resolve(fileName).normalize();
+        if (!filePath.startsWith(thumbnailStoragePath) || !Files.isRegularFile(filePath)) {
+            throw new RuntimeException("썸네일을 찾을 수 없습니다: " + fileName);
+        }
+        return filePath;
+    }
+
+    public boolean thumbnailExists(String fileName) {
+        return Files.isRegularFile(thumbnailStoragePath.resolve(fileName).normalize());
+    }
+
+    /** 축소본을 임시 파일에 쓴 뒤 이동해, 쓰는 도중의 불완전한 파일이 제공되지 않도록 한다. */
+    public void storeThumbnailVariant(String fileName, BufferedImage image, String format) {
+        Path target = thumbnailStoragePath.resolve(fileName).normalize();
+        Path temp = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            temp = Files.createTempFile(thumbnailStoragePath, "variant_", ".tmp");
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("지원하지 않는 이미지 형식입니다: " + format);
+            }
+            bytesWritten.increment(Files.size(temp));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("썸네일 축소본 저장에 실패했습니다: " + fileName, e);
+        } finally {
+            sample.stop(variantTimer);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    /** 저장된 첨부파일의 실제 경로를 반환한다. */
+    public Path resolveFile(String fileName) {
+        Path filePath = fileStoragePath.resolve(fileName).normalize();
+        if (!filePath.startsWith(fileStoragePath) || !Files.isRegularFile(filePath)) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
+        }
+        return filePath;
+    }
+
+    /**
+     * 파일의 지정 구간을 채널로 전송한다.
+     * <p>{@link FileChannel#transferTo} 를 사용한다. 대상이 소켓/파일 채널이면 커널 수준에서 복사되지만,
+     * {@code Channels.newChannel(ServletOutputStream)} 처럼 스트림을 감싼 채널이면 JDK 가 작은 힙 버퍼로
+     * 나눠 복사한다. 응답 본문을 힙을 거치지 않고 보내려면 Tomcat sendfile 을 써야 한다.</p>
+     */
+    public void transferTo(Path file, long position, long count, WritableByteChannel target) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long transferred = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred += written;
+            }
+        } finally {
+            bytesRead.increment(transferred);
+            sample.stop(transferTimer);
+        }
+    }
+
+    /** Tomcat sendfile 로 넘긴 구간처럼 이 클래스를 거치지 않고 전송된 바이트 수를 기록한다. */
+    public void recordBytesRead(long bytes) {
+        bytesRead.increment(bytes);
+    }
+
     public void deleteFile(String fileName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             Path filePath = fileStoragePath.resolve(fileName).normalize();
             Files.deleteIfExists(filePath);
         } catch (IOException e) {
             throw new RuntimeException("파일 삭제에 실패했습니다: " + fileName, e);
+        } finally {
+            sample.stop(deleteTimer);
         }
     }
 
     public void deleteThumbnail(String fileName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             Path filePath = thumbnailStoragePath.resolve(fileName).normalize();
             Files.deleteIfExists(filePath);
         } catch (IOException e) {
             throw new RuntimeException("썸네일 삭제에 실패했습니다: " + fileName, e);
+        } finally {
+            sample.stop(deleteTimer);
+        }
+    }
+
+    /**
+     * 더 이상 어떤 자료도 참조하지 않는 첨부파일을 정리한다.
+     * 내용 주소 저장 방식에서는 유예 시간 안에 저장/공유된 blob 을 남겨 두고 false 를 반환하므로,
+     * 호출 측({@link StoredFileReleaser})이 유예 시간 뒤 참조 수를 다시 확인한다. 삭제했으면 true.
+     */
+    public boolean releaseFile(String fileName) {
+        if (isRecentlyShared(fileStoragePath.resolve(fileName).normalize())) {
+            return false;
+        }
+        deleteFile(fileName);
+        return true;
+    }
+
+    /** {@link #releaseFile} 의 썸네일/갤러리 이미지 버전. 삭제했으면 true. */
+    public boolean releaseThumbnail(String fileName) {
+        if (isRecentlyShared(thumbnailStoragePath.resolve(fileName).normalize())) {
+            return false;
+        }
+        deleteThumbnail(fileName);
+        return true;
+    }
+
+    private boolean isRecentlyShared(Path filePath) {
+        return contentAddressed && recentlyStored.getIfPresent(filePath) != null;
+    }
+
+    public long getReleaseGraceMillis() {
+        return releaseGraceMillis;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
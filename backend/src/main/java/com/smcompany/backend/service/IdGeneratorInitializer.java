@@ -0,0 +1,49 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code id_generator} 시퀀스를 기존 데이터의 최대 id 이후로 맞춘다.
+ * <p>IDENTITY(AUTO_INCREMENT)로 저장된 기존 행이 있는 DB 에서 테이블 생성기로 전환하면
+ * 시퀀스가 1 부터 시작해 PK 가 충돌하므로, 기동 시 시퀀스 값을 최대 id + 할당 크기 이상으로 올린다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+
+    private static final List<String> SEQUENCES = List.of(
+            IdGenerators.REFERENCE_IMAGE, IdGenerators.REFERENCE_FILE, IdGenerators.QNA_COMMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void alignWithExistingIds() {
+        for (String sequence : SEQUENCES) {
+            // 시퀀스 이름은 엔티티 테이블 이름과 같다.
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM " + sequence, Long.class);
+            // pooled 할당 구간이 기존 id 와 겹치지 않도록 할당 크기만큼 여유를 둔다.
+            long required = (maxId == null ? 0 : maxId) + IdGenerators.ALLOCATION_SIZE + 1;
+
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+                            + " WHERE " + IdGenerators.PK_COLUMN + " = ?", Long.class, sequence);
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", "
+                        + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", sequence, required);
+            } else if (current.get(0) == null || current.get(0) < required) {
+                jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN
+                        + " = ? WHERE " + IdGenerators.PK_COLUMN + " = ?", required, sequence);
+            } else {
+                continue;
+            }
+            log.info("id 시퀀스 조정: {} → {}", sequence, required);
+        }
+    }
+}
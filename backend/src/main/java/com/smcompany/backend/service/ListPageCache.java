@@ -0,0 +1,142 @@
+package com.smcompany.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 기본 정렬/크기로 요청되는 목록 앞쪽 페이지의 직렬화된 JSON 캐시.
+ * <p>자료실/Q&A 첫 화면은 방문마다 같은 페이지를 요청하므로, 앞쪽 N 페이지의 응답을 UTF-8 바이트 배열로 보관해
+ * 적중 시 DB 조회와 Jackson 직렬화 없이 그대로 응답에 쓴다. 데이터가 바뀌면 해당 목록만 비우고,
+ * 다음 요청이 페이지 단위로 다시 만든다. 적중/미스는 Caffeine 캐시와 같은 {@code cache.gets} 카운터로 기록한다.</p>
+ * <p>다운로드/조회수처럼 자주 바뀌는 카운터는 목록을 비우지 않고, 페이지를 만든 지 {@code max-age} 가 지나면
+ * 다시 만들 때 반영한다. 그 사이 목록의 카운터는 잠시 이전 값일 수 있다.</p>
+ */
+@Component
+public class ListPageCache {
+
+    public enum ListType {
+        REFERENCES, QNA
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int cachedPages;
+    private final long maxAgeNanos;
+    private final Map<ListType, Slots> lists = new EnumMap<>(ListType.class);
+
+    /** 직렬화된 페이지와 만든 시각(System.nanoTime) */
+    private record CachedPage(byte[] body, long builtAt) {
+    }
+
+    /** 목록별 페이지 바이트와 무효화 세대 번호 */
+    private static final class Slots {
+        private final AtomicReferenceArray<CachedPage> pages;
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private Slots(int size) {
+            this.pages = new AtomicReferenceArray<>(size);
+        }
+    }
+
+    public ListPageCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${app.list-page-cache.pages:3}") int cachedPages,
+                         @Value("${app.list-page-cache.max-age:1m}") Duration maxAge) {
+        this.objectMapper = objectMapper;
+        this.cachedPages = cachedPages;
+        this.maxAgeNanos = maxAge.toNanos();
+        for (ListType type : ListType.values()) {
+            Slots slots = new Slots(cachedPages);
+            lists.put(type, slots);
+            String cacheName = "list-page-" + type.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("cache.gets", slots.hits, LongAdder::sum)
+                    .tags("cache", cacheName, "result", "hit").register(meterRegistry);
+            FunctionCounter.builder("cache.gets", slots.misses, LongAdder::sum)
+                    .tags("cache", cacheName, "result", "miss").register(meterRegistry);
+        }
+    }
+
+    /** 기본 크기·정렬의 앞쪽 페이지 요청인지 확인한다. */
+    public boolean isCacheable(Pageable pageable, int defaultSize) {
+        return pageable.getPageNumber() < cachedPages
+                && pageable.getPageSize() == defaultSize
+                && pageable.getSort().isUnsorted();
+    }
+
+    /**
+     * 캐시된 페이지 JSON 을 반환하고, 없으면 loader 결과를 직렬화해 저장한다.
+     * 같은 목록의 동시 미스는 한 번만 다시 만들고, 만드는 도중 무효화되면 결과를 저장하지 않는다.
+     */
+    public byte[] get(ListType type, int page, Supplier<?> loader) {
+        Slots slots = lists.get(type);
+        CachedPage cached = slots.pages.get(page);
+        if (isFresh(cached)) {
+            slots.hits.increment();
+            return cached.body();
+        }
+        synchronized (slots) {
+            cached = slots.pages.get(page);
+            if (isFresh(cached)) {
+                slots.hits.increment();
+                return cached.body();
+            }
+            slots.misses.increment();
+            long generation = slots.generation.get();
+            byte[] body = serialize(loader.get());
+            if (slots.generation.get() == generation) {
+                slots.pages.set(page, new CachedPage(body, System.nanoTime()));
+            }
+            return body;
+        }
+    }
+
+    private boolean isFresh(CachedPage cached) {
+        return cached != null && System.nanoTime() - cached.builtAt() < maxAgeNanos;
+    }
+
+    /** 트랜잭션 커밋 후 목록 캐시를 비운다. */
+    public void invalidateAfterCommit(ListType type) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(type);
+                }
+            });
+        } else {
+            invalidate(type);
+        }
+    }
+
+    public void invalidate(ListType type) {
+        Slots slots = lists.get(type);
+        slots.generation.incrementAndGet();
+        for (int i = 0; i < cachedPages; i++) {
+            slots.pages.set(i, null);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("목록 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+}
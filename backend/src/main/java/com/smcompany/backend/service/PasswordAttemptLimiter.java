@@ -0,0 +1,93 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비밀번호 확인/관리자 로그인 요청 제한 (토큰 버킷).
+ * <p>BCrypt 검증 전에 (클라이언트 IP, 대상) 버킷과 IP 전체 버킷에서 토큰을 하나씩 꺼내고,
+ * 하나라도 비어 있으면 해시 계산 없이 429 로 거절한다. 버킷 상태는 불변 객체를 CAS 로 교체해
+ * 락 없이 갱신하며, 일정 시간 쓰이지 않은 버킷은 만료되고 개수도 상한을 둔다.</p>
+ */
+@Component
+public class PasswordAttemptLimiter {
+
+    private final Cache<String, Bucket> buckets;
+    private final BucketPolicy targetPolicy;
+    private final BucketPolicy clientPolicy;
+
+    /** 버킷 용량과 초당 충전 토큰 수 */
+    private record BucketPolicy(double capacity, double refillPerSecond) {
+    }
+
+    /** 남은 토큰과 마지막 충전 시각(ns) */
+    private record State(double tokens, long refilledAt) {
+    }
+
+    private static final class Bucket {
+        private final BucketPolicy policy;
+        private final AtomicReference<State> state;
+
+        private Bucket(BucketPolicy policy) {
+            this.policy = policy;
+            this.state = new AtomicReference<>(new State(policy.capacity(), System.nanoTime()));
+        }
+
+        /** 토큰을 하나 꺼낸다. 성공하면 0, 실패하면 다음 토큰까지 남은 초(최소 1)를 반환한다. */
+        long tryConsume() {
+            while (true) {
+                State current = state.get();
+                long now = System.nanoTime();
+                double elapsedSeconds = Math.max(0, now - current.refilledAt()) / 1_000_000_000.0;
+                double tokens = Math.min(policy.capacity(), current.tokens() + elapsedSeconds * policy.refillPerSecond());
+                if (tokens < 1) {
+                    return Math.max(1, (long) Math.ceil((1 - tokens) / policy.refillPerSecond()));
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    public PasswordAttemptLimiter(
+            @Value("${app.rate-limit.password.target-capacity:5}") int targetCapacity,
+            @Value("${app.rate-limit.password.target-refill-per-minute:5}") int targetRefillPerMinute,
+            @Value("${app.rate-limit.password.client-capacity:30}") int clientCapacity,
+            @Value("${app.rate-limit.password.client-refill-per-minute:30}") int clientRefillPerMinute,
+            @Value("${app.rate-limit.password.max-buckets:100000}") long maxBuckets,
+            @Value("${app.rate-limit.password.idle-expiry:15m}") Duration idleExpiry) {
+        this.targetPolicy = new BucketPolicy(targetCapacity, targetRefillPerMinute / 60.0);
+        this.clientPolicy = new BucketPolicy(clientCapacity, clientRefillPerMinute / 60.0);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * 비밀번호 검증 시도 한 번을 허용할지 확인한다.
+     *
+     * @param clientIp 요청 IP (프록시 뒤에서는 forward-headers 로 복원된 주소)
+     * @param target   대상 구분자 (예: {@code post:12}, {@code comment:3}, {@code admin:username})
+     * @throws TooManyRequestsException 한도를 넘은 경우
+     */
+    public void acquire(String clientIp, String target) {
+        long wait = bucket("c|" + clientIp, clientPolicy).tryConsume();
+        if (wait == 0) {
+            wait = bucket("t|" + clientIp + "|" + target, targetPolicy).tryConsume();
+        }
+        if (wait > 0) {
+            throw new TooManyRequestsException(wait);
+        }
+    }
+
+    private Bucket bucket(String key, BucketPolicy policy) {
+        return buckets.get(key, k -> new Bucket(policy));
+    }
+}
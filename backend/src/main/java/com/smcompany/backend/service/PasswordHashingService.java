@@ -0,0 +1,136 @@
+package com.smcompany.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증.
+ * <p>BCrypt 계산은 요청 스레드가 아닌 크기가 제한된 전용 풀({@code passwordHashExecutor})에서 수행한다.
+ * 풀 대기열이 가득 차면 503 으로 즉시 거절해 해시 요청이 몰려도 다른 API 가 굶지 않게 한다.
+ * 검증에 성공한 해시의 비용이 설정값보다 낮으면 같은 작업에서 새 비용으로 다시 해시해 호출 측이 저장하게 한다.</p>
+ * <p>풀 안에서의 BCrypt 계산 시간은 {@code password.hash} 타이머(operation=hash|verify)로,
+ * 대기열 길이와 거절/재해시 횟수는 {@code password.hash.*} 게이지/카운터로 기록한다.</p>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    /** 비밀번호 없이 작성한 관리자 글/댓글의 기본 비밀번호 */
+    static final String DEFAULT_PASSWORD = "admin";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    /** 기본 비밀번호의 해시. 요청마다 다시 계산하지 않도록 기동 시 한 번만 만든다. */
+    private volatile String defaultPasswordHash;
+
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+
+    private record Verification(boolean matches, String upgradedHash) {
+    }
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, ThreadPoolTaskExecutor passwordHashExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.hashTimer = Timer.builder("password.hash").tag("operation", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hash").tag("operation", "verify").register(meterRegistry);
+        Gauge.builder("password.hash.queued", this, PasswordHashingService::getQueueDepth).register(meterRegistry);
+        FunctionCounter.builder("password.hash.rejected", rejected, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("password.hash.rehashed", rehashed, LongAdder::sum).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        defaultPasswordHash = passwordEncoder.encode(DEFAULT_PASSWORD);
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /** 입력이 비어 있으면 미리 계산한 기본 비밀번호 해시를, 아니면 새 해시를 반환한다. */
+    public String hashOrDefault(String rawPassword) {
+        if (rawPassword == null || rawPassword.isBlank()) {
+            return defaultPasswordHash;
+        }
+        return hash(rawPassword);
+    }
+
+    /**
+     * 비밀번호를 검증한다. 일치하고 저장된 해시의 비용이 낮으면 새 해시를 onUpgrade 로 넘긴다.
+     */
+    public boolean verify(String rawPassword, String encodedPassword, Consumer<String> onUpgrade) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        Verification verification = run(() -> {
+            if (!verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword))) {
+                return new Verification(false, null);
+            }
+            return new Verification(true, passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? hashTimer.record(() -> passwordEncoder.encode(rawPassword))
+                    : null);
+        });
+        if (verification.upgradedHash() != null) {
+            onUpgrade.accept(verification.upgradedHash());
+            rehashed.increment();
+        }
+        return verification.matches();
+    }
+
+    /** 해시 풀 상태 (대기열 길이, 실행 중 작업, 거절/재해시 횟수) */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("poolSize", (long) passwordHashExecutor.getPoolSize());
+        stats.put("active", (long) passwordHashExecutor.getActiveCount());
+        stats.put("queued", (long) getQueueDepth());
+        stats.put("completed", passwordHashExecutor.getThreadPoolExecutor().getCompletedTaskCount());
+        stats.put("rejected", rejected.sum());
+        stats.put("rehashed", rehashed.sum());
+        return stats;
+    }
+
+    public int getQueueDepth() {
+        return passwordHashExecutor.getQueueSize();
+    }
+
+    private <T> T run(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 요청 거절 (대기 {}건)", getQueueDepth());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause : new RuntimeException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Q&A 게시글 인메모리 역색인.
+ * <p>제목/본문을 단어 단위로 나눈 뒤 글자(unigram)와 2-gram(bigram)으로 색인하고,
+ * 검색어는 두 글자 이상 단어면 bigram, 한 글자 단어면 unigram 으로 조회한다.
+ * 띄어쓰기가 불규칙한 한글에서도 부분 일치 검색이 되도록 형태소 분석 대신 n-gram 을 사용한다.
+ * 게시글 생성/수정/삭제 시 커밋 이후 증분 반영되며, 기동 시 전체를 병렬로 다시 색인한다.</p>
+ * <p>n-gram 교집합은 토큰이 흩어져 있어도 일치하므로(예: "안전 … 전교 … 교육" 이 "안전교육" 에 일치),
+ * 후보는 소문자로 정규화해 보관한 제목/본문에 검색어가 그대로 들어 있는지 다시 확인한다.
+ * 결과는 대체 대상인 {@code LIKE '%검색어%'} 검색과 같다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QnaSearchIndex {
+
+    static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private static final Comparator<Document> LIST_ORDER = Comparator
+            .comparing(Document::notice).reversed()
+            .thenComparing(Document::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Document::id, Comparator.<Long>reverseOrder());
+
+    private final QnaPostRepository postRepository;
+
+    /** 토큰 → 게시글 id 목록 */
+    private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /** 게시글 id → 색인된 문서 (정렬 키와 토큰 목록) */
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /** 재색인 도중 삭제된 게시글 (재색인 스냅샷이 되살리지 않도록) */
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+
+    private record Document(Long id, Boolean notice, LocalDateTime createdAt, Set<String> tokens,
+                            String title, String content) {
+
+        /** 제목 또는 본문에 정규화된 검색어가 그대로 들어 있는지 */
+        boolean contains(String normalizedKeyword) {
+            return title.contains(normalizedKeyword) || content.contains(normalizedKeyword);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 게시글을 id 순으로 나누어 읽고, 각 묶음의 토큰화/색인은 병렬로 수행한다.
+     * 묶음은 마지막 id 다음부터 읽으므로(keyset) offset 건너뛰기나 묶음마다의 count 쿼리가 없다.
+     * 재색인 중 들어온 증분 변경이 우선하도록 이미 색인된 게시글은 덮어쓰지 않는다.
+     */
+    public void rebuild() {
+        ready = false;
+        removedDuringRebuild.clear();
+        long started = System.currentTimeMillis();
+
+        long lastId = 0;
+        List<QnaPost> chunk;
+        do {
+            chunk = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_CHUNK_SIZE));
+            chunk.parallelStream()
+                    .filter(post -> !removedDuringRebuild.contains(post.getId()))
+                    .forEach(post -> putDocument(toDocument(post), false));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        removedDuringRebuild.clear();
+        ready = true;
+        log.info("Q&A 검색 색인 완료: 게시글 {}건, 토큰 {}개 ({}ms)",
+                documents.size(), postings.size(), System.currentTimeMillis() - started);
+    }
+
+    /** 트랜잭션이 커밋된 뒤 게시글을 색인(또는 재색인)한다. */
+    public void indexAfterCommit(QnaPost post) {
+        Document document = toDocument(post);
+        afterCommit(() -> putDocument(document, true));
+    }
+
+    /** 트랜잭션이 커밋된 뒤 게시글을 색인에서 제거한다. */
+    public void removeAfterCommit(Long postId) {
+        afterCommit(() -> remove(postId));
+    }
+
+    /**
+     * 제목 또는 본문에 검색어가 들어 있는 게시글 id 를 목록 정렬 순서(공지 → 최신순)로 반환한다.
+     * 검색어의 모든 토큰을 가진 후보만 원문과 비교하며, 토큰이 없는 검색어(기호만 있는 경우)는 전체를 비교한다.
+     */
+    public List<Long> search(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return List.of();
+        }
+        String normalizedKeyword = keyword.toLowerCase(Locale.ROOT);
+        Set<String> queryTokens = tokenize(keyword, false);
+        if (queryTokens.isEmpty()) {
+            return sorted(documents.values().stream()
+                    .filter(document -> document.contains(normalizedKeyword))
+                    .toList());
+        }
+
+        List<Set<Long>> lists = new ArrayList<>(queryTokens.size());
+        for (String token : queryTokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Document> matches = new ArrayList<>();
+        for (Long id : lists.get(0)) {
+            if (containsAll(lists, id)) {
+                Document document = documents.get(id);
+                if (document != null && document.contains(normalizedKeyword)) {
+                    matches.add(document);
+                }
+            }
+        }
+        return sorted(matches);
+    }
+
+    private List<Long> sorted(List<Document> matches) {
+        return matches.stream().sorted(LIST_ORDER).map(Document::id).toList();
+    }
+
+    private boolean containsAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putDocument(Document document, boolean overwrite) {
+        documents.compute(document.id(), (id, previous) -> {
+            if (previous != null && !overwrite) {
+                return previous;
+            }
+            if (previous != null) {
+                for (String token : previous.tokens()) {
+                    if (!document.tokens().contains(token)) {
+                        removePosting(token, id);
+                    }
+                }
+            }
+            for (String token : document.tokens()) {
+                postings.compute(token, (key, ids) -> {
+                    Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                    target.add(id);
+                    return target;
+                });
+            }
+            return document;
+        });
+    }
+
+    private void remove(Long postId) {
+        if (!ready) {
+            removedDuringRebuild.add(postId);
+        }
+        documents.computeIfPresent(postId, (id, previous) -> {
+            for (String token : previous.tokens()) {
+                removePosting(token, id);
+            }
+            return null;
+        });
+    }
+
+    private void removePosting(String token, Long id) {
+        postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private Document toDocument(QnaPost post) {
+        return new Document(post.getId(), Boolean.TRUE.equals(post.getIsNotice()), post.getCreatedAt(),
+                tokenize(post.getTitle() + " " + post.getContent(), true),
+                normalize(post.getTitle()), normalize(post.getContent()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자/숫자가 아닌 글자로 단어를 나눈 뒤 인접한 두 글자를 토큰으로 만든다.
+     * 한 글자 단어는 그 글자 자체가 토큰이며, withUnigrams 이면 모든 글자를 토큰에 추가한다.
+     */
+    static Set<String> tokenize(String text, boolean withUnigrams) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inWord = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inWord && wordStart < 0) {
+                wordStart = i;
+            } else if (!inWord && wordStart >= 0) {
+                addWordTokens(normalized, wordStart, i, withUnigrams, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWordTokens(String text, int start, int end, boolean withUnigrams, Set<String> tokens) {
+        if (withUnigrams || end - start == 1) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.smcompany.backend.service;
 
+import com.smcompany.backend.dto.request.PageCursor;
 import com.smcompany.backend.dto.request.QnaCommentRequest;
 import com.smcompany.backend.dto.request.QnaPostRequest;
+import com.smcompany.backend.dto.response.CursorPageResponse;
 import com.smcompany.backend.dto.response.QnaCommentResponse;
 import com.smcompany.backend.dto.response.QnaPostResponse;
 import com.smcompany.backend.entity.QnaComment;
 import com.smcompany.backend.entity.QnaPost;
 import com.smcompany.backend.repository.QnaCommentRepository;
 import com.smcompany.backend.repository.QnaPostRepository;
+import com.smcompany.backend.service.ListPageCache.ListType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,7 +38,11 @@ public class QnaService {
 
     private final QnaPostRepository postRepository;
     private final QnaCommentRepository commentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final QnaSearchIndex searchIndex;
+    private final QnaViewCounter viewCounter;
+    private final ListPageCache listPageCache;
+    private final JdbcTemplate jdbcTemplate;
 
     // ===== 게시글 =====
 
@@ -34,24 +51,60 @@ public class QnaService {
                 .map(QnaPostResponse::listFrom);
     }
 
+    /**
+     * 인메모리 역색인으로 게시글 id 를 찾고 현재 페이지의 게시글만 조회한다.
+     * 기동 직후 색인이 준비되기 전에는 기존 LIKE 검색을 사용한다.
+     */
     public Page<QnaPostResponse> searchPosts(String keyword, Pageable pageable) {
-        return postRepository.findByTitleContainingOrContentContainingOrderByIsNoticeDescCreatedAtDesc(
-                keyword, keyword, pageable).map(QnaPostResponse::listFrom);
+        if (!searchIndex.isReady()) {
+            return postRepository.findByTitleContainingOrContentContainingOrderByIsNoticeDescCreatedAtDesc(
+                    keyword, keyword, pageable).map(QnaPostResponse::listFrom);
+        }
+
+        List<Long> ids = searchIndex.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        Map<Long, QnaPost> byId = postRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(QnaPost::getId, Function.identity()));
+        List<QnaPostResponse> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(QnaPostResponse::listFrom)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
     }
 
-    @Transactional
-    public QnaPostResponse getPost(Long id) {
+    public CursorPageResponse<QnaPostResponse> getPostsByCursor(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<QnaPost> posts;
+        if (after == null) {
+            posts = postRepository.findAllInCursorOrder(limit);
+        } else if (Boolean.TRUE.equals(after.getNotice())) {
+            posts = postRepository.findAfterNoticeCursor(after.getCreatedAt(), after.getId(), limit);
+        } else {
+            posts = postRepository.findAfterPostCursor(after.getCreatedAt(), after.getId(), limit);
+        }
+        return CursorPageResponse.of(posts.stream().map(QnaPostResponse::listFrom).toList(), size,
+                post -> PageCursor.of(post.getIsNotice(), post.getCreatedAt(), post.getId()).encode());
+    }
+
+    /**
+     * 게시글을 조회하고 고유 조회자를 기록한다.
+     * 조회수는 {@link QnaViewCounter} 가 메모리에서 집계 후 주기적으로 반영하므로 읽기 전용 트랜잭션으로 동작한다.
+     */
+    public QnaPostResponse getPost(Long id, String viewerFingerprint) {
         QnaPost post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        post.incrementViewCount();
-        return QnaPostResponse.from(post);
+        long viewCount = viewCounter.recordView(id, viewerFingerprint);
+        return QnaPostResponse.from(post, (int) Math.min(viewCount, Integer.MAX_VALUE));
     }
 
     @Transactional
     public QnaPostResponse createPost(QnaPostRequest request) {
-        String encodedPassword = (request.getPassword() != null && !request.getPassword().isBlank())
-                ? passwordEncoder.encode(request.getPassword())
-                : passwordEncoder.encode("admin");
+        String encodedPassword = passwordHashingService.hashOrDefault(request.getPassword());
         QnaPost post = QnaPost.builder()
                 .authorName(request.getAuthorName())
                 .password(encodedPassword)
@@ -59,7 +112,10 @@ public class QnaService {
                 .content(request.getContent())
                 .isNotice(request.getIsNotice())
                 .build();
-        return QnaPostResponse.from(postRepository.save(post));
+        QnaPost saved = postRepository.save(post);
+        searchIndex.indexAfterCommit(saved);
+        listPageCache.invalidateAfterCommit(ListType.QNA);
+        return QnaPostResponse.from(saved);
     }
 
     @Transactional
@@ -67,26 +123,39 @@ public class QnaService {
         QnaPost post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         post.update(request.getTitle(), request.getContent(), request.getIsNotice());
+        searchIndex.indexAfterCommit(post);
+        listPageCache.invalidateAfterCommit(ListType.QNA);
         return QnaPostResponse.from(post);
     }
 
     @Transactional
     public void deletePost(Long id) {
         postRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        viewCounter.remove(id);
+        listPageCache.invalidateAfterCommit(ListType.QNA);
     }
 
+    /**
+     * 비밀번호가 맞고 저장된 해시 비용이 낮으면 새 비용의 해시로 교체한다.
+     * <p>해시 풀을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다. 해시는 JdbcTemplate 으로 읽고
+     * 바로 커넥션을 돌려주며(JPA 로 읽으면 open-in-view 세션이 요청 끝까지 커넥션을 붙잡는다),
+     * 교체가 필요할 때만 해당 컬럼만 UPDATE 한다.</p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean checkPostPassword(Long id, String rawPassword) {
-        QnaPost post = postRepository.findById(id)
+        String hash = jdbcTemplate.queryForList("SELECT password FROM qna_post WHERE id = ?", String.class, id)
+                .stream().findFirst()
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        return passwordEncoder.matches(rawPassword, post.getPassword());
+        return passwordHashingService.verify(rawPassword, hash,
+                upgraded -> jdbcTemplate.update("UPDATE qna_post SET password = ? WHERE id = ?", upgraded, id));
     }
 
     // ===== 댓글 =====
 
+    /** 게시글의 댓글을 한 번의 쿼리로 읽어 메모리에서 트리로 조립한다. */
     public List<QnaCommentResponse> getComments(Long postId) {
-        return commentRepository.findByPostIdAndParentIsNullOrderByCreatedAtAsc(postId).stream()
-                .map(QnaCommentResponse::from)
-                .collect(Collectors.toList());
+        return QnaCommentResponse.treeFrom(commentRepository.findByPostIdOrderByCreatedAtAscIdAsc(postId));
     }
 
     @Transactional
@@ -100,9 +169,7 @@ public class QnaService {
                     .orElseThrow(() -> new RuntimeException("부모 댓글을 찾을 수 없습니다."));
         }
 
-        String encodedPassword = (request.getPassword() != null && !request.getPassword().isBlank())
-                ? passwordEncoder.encode(request.getPassword())
-                : passwordEncoder.encode("admin");
+        String encodedPassword = passwordHashingService.hashOrDefault(request.getPassword());
         QnaComment comment = QnaComment.builder()
                 .post(post)
                 .parent(parent)
@@ -112,7 +179,10 @@ public class QnaService {
                 .isAdmin(isAdmin)
                 .build();
 
-        return QnaCommentResponse.from(commentRepository.save(comment));
+        QnaComment saved = commentRepository.saveAndFlush(comment);
+        postRepository.addCommentCount(postId, 1);
+        listPageCache.invalidateAfterCommit(ListType.QNA);
+        return QnaCommentResponse.from(saved);
     }
 
     @Transactional
@@ -123,14 +193,51 @@ public class QnaService {
         return QnaCommentResponse.from(comment);
     }
 
+    /** 댓글과 하위 대댓글을 함께 삭제하고, 삭제된 개수만큼 게시글 댓글 수를 줄인다. */
     @Transactional
     public void deleteComment(Long commentId) {
-        commentRepository.deleteById(commentId);
+        QnaComment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+        Long postId = comment.getPost().getId();
+        int removed = countSubtree(commentRepository.findByPostIdOrderByCreatedAtAscIdAsc(postId), commentId);
+
+        commentRepository.delete(comment);
+        commentRepository.flush();
+        postRepository.addCommentCount(postId, -removed);
+        listPageCache.invalidateAfterCommit(ListType.QNA);
+    }
+
+    /** 댓글 자신과 모든 하위 대댓글 수 */
+    private int countSubtree(List<QnaComment> comments, Long rootId) {
+        Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        for (QnaComment c : comments) {
+            if (c.getParent() != null) {
+                childrenByParent.computeIfAbsent(c.getParent().getId(), k -> new ArrayList<>()).add(c.getId());
+            }
+        }
+        int count = 0;
+        Deque<Long> pending = new ArrayDeque<>(List.of(rootId));
+        while (!pending.isEmpty()) {
+            count++;
+            pending.addAll(childrenByParent.getOrDefault(pending.poll(), List.of()));
+        }
+        return count;
     }
 
+    @Transactional
+    public void backfillCommentCounts() {
+        postRepository.backfillCommentCounts();
+    }
+
+    /** 비밀번호가 맞고 저장된 해시 비용이 낮으면 새 비용의 해시로 교체한다. 트랜잭션은 {@link #checkPostPassword} 와 같다. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean checkCommentPassword(Long commentId, String rawPassword) {
-        QnaComment comment = commentRepository.findById(commentId)
+        String hash = jdbcTemplate.queryForList(
+                        "SELECT password FROM qna_comment WHERE id = ?", String.class, commentId)
+                .stream().findFirst()
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
-        return passwordEncoder.matches(rawPassword, comment.getPassword());
+        return passwordHashingService.verify(rawPassword, hash,
+                upgraded -> jdbcTemplate.update(
+                        "UPDATE qna_comment SET password = ? WHERE id = ?", upgraded, commentId));
     }
 }
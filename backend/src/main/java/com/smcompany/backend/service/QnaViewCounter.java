@@ -0,0 +1,171 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smcompany.backend.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Q&A 게시글 고유 조회자 집계.
+ * <p>게시글별 {@link HyperLogLog} 스케치에 클라이언트 지문(IP + User-Agent)을 추가해 고유 조회자 수를 추정한다.
+ * 새로고침이나 크롤러 반복 요청은 같은 지문이므로 조회수를 부풀리지 않는다.
+ * 조회 시에는 메모리만 갱신하고, 변경된 스케치는 주기적으로 DB 의 스케치와 병합해
+ * {@code qna_post_view_sketch} 와 {@code qna_post.view_count} 에 반영한다.
+ * 목록 페이지 캐시는 비우지 않으며, 목록의 조회수는 페이지가 다시 만들어질 때 반영된다.</p>
+ * <p>메모리의 스케치는 {@code idle-expiry} 동안 조회되지 않으면(또는 {@code max-posts} 를 넘으면) 버리고,
+ * 다음 조회 때 DB 에서 다시 읽는다. 반영 전에 밀려난 스케치는 다음 반영 때까지 따로 보관해 조회가 유실되지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class QnaViewCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final Cache<Long, ViewState> states;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /** 반영 전에 캐시에서 밀려난 스케치 */
+    private final ConcurrentHashMap<Long, ViewState> evictedDirty = new ConcurrentHashMap<>();
+
+    /** 게시글의 병합된 스케치와 스케치 도입 이전 조회수 */
+    private record ViewState(HyperLogLog sketch, long baseCount) {
+        long viewCount() {
+            return baseCount + sketch.estimate();
+        }
+    }
+
+    public QnaViewCounter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                          @Value("${app.view-count.idle-expiry:30m}") Duration idleExpiry,
+                          @Value("${app.view-count.max-posts:100000}") long maxPosts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.states = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maxPosts)
+                .<Long, ViewState>evictionListener((postId, state, cause) -> {
+                    if (postId != null && dirty.contains(postId)) {
+                        evictedDirty.put(postId, state);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 조회를 기록하고 현재 추정 조회수를 반환한다.
+     * 메모리에 스케치가 없는 게시글만 DB 에서 읽어 온다.
+     */
+    public long recordView(Long postId, String fingerprint) {
+        ViewState state = evictedDirty.remove(postId);
+        if (state != null) {
+            states.put(postId, state);
+        } else {
+            state = states.get(postId, this::load);
+        }
+        if (state.sketch().offer(fingerprint)) {
+            dirty.add(postId);
+        }
+        return state.viewCount();
+    }
+
+    /** 게시글 삭제 시 메모리 상태와 저장된 스케치를 제거한다. */
+    public void remove(Long postId) {
+        states.invalidate(postId);
+        evictedDirty.remove(postId);
+        dirty.remove(postId);
+        jdbcTemplate.update("DELETE FROM qna_post_view_sketch WHERE post_id = ?", postId);
+    }
+
+    /**
+     * 변경된 스케치를 DB 에 반영한다.
+     * <p>다른 노드가 저장한 레지스터와 먼저 병합(레지스터별 최댓값)한 뒤 저장하므로
+     * 여러 백엔드 인스턴스가 동시에 반영해도 고유 조회자가 이중 집계되지 않는다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>(dirty);
+        if (ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(dirty::remove);
+
+        Map<Long, ViewState> evicted = new HashMap<>();
+        try {
+            Map<Long, byte[]> stored = new HashMap<>();
+            namedParameterJdbcTemplate.query(
+                    "SELECT post_id, registers FROM qna_post_view_sketch WHERE post_id IN (:ids)",
+                    new MapSqlParameterSource("ids", ids),
+                    rs -> {
+                        stored.put(rs.getLong("post_id"), rs.getBytes("registers"));
+                    });
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> sketchRows = new ArrayList<>();
+            List<Object[]> countRows = new ArrayList<>();
+            for (Long id : ids) {
+                ViewState state = states.policy().getIfPresentQuietly(id);
+                if (state == null) {
+                    state = evictedDirty.remove(id);
+                    if (state == null) {
+                        continue;
+                    }
+                    evicted.put(id, state);
+                }
+                if (stored.containsKey(id)) {
+                    state.sketch().merge(HyperLogLog.fromBytes(stored.get(id)));
+                }
+                sketchRows.add(new Object[]{id, state.sketch().toBytes(), state.baseCount(), now});
+                countRows.add(new Object[]{state.viewCount(), id});
+            }
+
+            jdbcTemplate.batchUpdate("INSERT INTO qna_post_view_sketch (post_id, registers, base_count, updated_at) "
+                    + "VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE registers = VALUES(registers), updated_at = VALUES(updated_at)",
+                    sketchRows);
+            jdbcTemplate.batchUpdate("UPDATE qna_post SET view_count = ? WHERE id = ?", countRows);
+        } catch (DataAccessException e) {
+            evicted.forEach(evictedDirty::putIfAbsent);
+            dirty.addAll(ids);
+            log.warn("조회수 스케치 반영 실패 ({}건), 다음 주기에 재시도합니다: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private ViewState load(Long postId) {
+        List<ViewState> stored = jdbcTemplate.query(
+                "SELECT registers, base_count FROM qna_post_view_sketch WHERE post_id = ?",
+                (rs, rowNum) -> new ViewState(HyperLogLog.fromBytes(rs.getBytes("registers")),
+                        rs.getLong("base_count")),
+                postId);
+        if (!stored.isEmpty()) {
+            return stored.get(0);
+        }
+        // 스케치가 없는 기존 게시글은 지금까지의 조회수를 기준값으로 이어간다.
+        List<Long> viewCount = jdbcTemplate.query(
+                "SELECT COALESCE(view_count, 0) FROM qna_post WHERE id = ?",
+                (rs, rowNum) -> rs.getLong(1), postId);
+        return new ViewState(new HyperLogLog(), viewCount.isEmpty() ? 0 : viewCount.get(0));
+    }
+}
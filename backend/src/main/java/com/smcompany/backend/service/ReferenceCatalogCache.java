@@ -0,0 +1,97 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 자료실 카탈로그 2차 캐시(Hibernate L2, JCache/Caffeine) 관리.
+ * <p>엔티티 변경은 Hibernate 가 READ_WRITE 전략으로 캐시에 반영하지만, JDBC 로 직접 갱신하는 값
+ * (다운로드 횟수)이나 컬렉션 쪽을 거치지 않고 저장한 자식 행은 캐시가 알 수 없으므로 여기서 명시적으로 비운다.
+ * 리전별 적중/미스 통계도 제공한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceCatalogCache {
+
+    private static final String FILES_ROLE = Reference.class.getName() + ".files";
+    private static final String IMAGES_ROLE = Reference.class.getName() + ".images";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** 트랜잭션 커밋 후 자료 엔티티와 첨부파일/이미지 컬렉션 캐시를 비운다. */
+    public void evictReferenceAfterCommit(Long referenceId) {
+        afterCommit(() -> evictReference(referenceId));
+    }
+
+    public void evictReference(Long referenceId) {
+        Cache cache = cache();
+        cache.evictEntityData(Reference.class, referenceId);
+        cache.evictCollectionData(FILES_ROLE, referenceId);
+        cache.evictCollectionData(IMAGES_ROLE, referenceId);
+    }
+
+    /** JDBC 로 갱신된 자료 행(다운로드 횟수)을 캐시에서 제거한다. 컬렉션은 그대로 둔다. */
+    public void evictReferenceRows(Collection<Long> referenceIds) {
+        Cache cache = cache();
+        referenceIds.forEach(id -> cache.evictEntityData(Reference.class, id));
+    }
+
+    /** 트랜잭션 커밋 후 카테고리 엔티티 캐시를 비운다. */
+    public void evictCategoryAfterCommit(Long categoryId) {
+        afterCommit(() -> cache().evictEntityData(ReferenceCategory.class, categoryId));
+    }
+
+    /** 리전별 적중/미스/저장 횟수와 메모리 내 항목 수 */
+    public Map<String, Map<String, Long>> getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (String region : new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+            result.put(region, Map.of(
+                    "hits", hits,
+                    "misses", misses,
+                    "puts", stats.getPutCount(),
+                    "elements", stats.getElementCountInMemory(),
+                    "hitRatioPercent", hits + misses == 0 ? 0 : hits * 100 / (hits + misses)));
+        }
+        return result;
+    }
+
+    private Cache cache() {
+        return sessionFactory().getCache();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
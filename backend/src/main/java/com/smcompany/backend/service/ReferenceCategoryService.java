@@ -4,6 +4,7 @@ import com.smcompany.backend.dto.request.ReferenceCategoryRequest;
 import com.smcompany.backend.dto.response.ReferenceCategoryResponse;
 import com.smcompany.backend.entity.ReferenceCategory;
 import com.smcompany.backend.repository.ReferenceCategoryRepository;
+import com.smcompany.backend.service.ListPageCache.ListType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,9 @@ import java.util.stream.Collectors;
 public class ReferenceCategoryService {
 
     private final ReferenceCategoryRepository categoryRepository;
+    private final ReferenceCatalogCache referenceCatalogCache;
+    private final ReferenceDetailCache referenceDetailCache;
+    private final ListPageCache listPageCache;
 
     public List<ReferenceCategoryResponse> getAllCategories() {
         return categoryRepository.findAllByOrderBySortOrderAsc().stream()
@@ -38,11 +42,15 @@ public class ReferenceCategoryService {
         ReferenceCategory category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
         category.update(request.getName(), request.getSortOrder());
+        referenceCatalogCache.evictCategoryAfterCommit(id);
+        referenceDetailCache.invalidateAllAfterCommit();
+        listPageCache.invalidateAfterCommit(ListType.REFERENCES);
         return ReferenceCategoryResponse.from(category);
     }
 
     @Transactional
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        referenceCatalogCache.evictCategoryAfterCommit(id);
     }
 }
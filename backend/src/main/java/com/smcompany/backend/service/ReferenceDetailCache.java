@@ -0,0 +1,82 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.smcompany.backend.dto.response.ReferenceResponse;
+import com.smcompany.backend.repository.ReferenceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 자료 상세 응답(DTO) 캐시.
+ * <p>같은 id 에 대한 동시 미스는 Caffeine 의 원자적 로딩으로 한 번의 DB 조회로 합쳐지고(single-flight),
+ * {@code refresh-after-write} 가 지난 항목은 이전 값을 바로 돌려주면서 백그라운드에서 다시 읽는다
+ * (stale-while-revalidate). 크기 상한을 넘으면 W-TinyLFU 정책으로 덜 쓰이는 항목부터 내보낸다.</p>
+ */
+@Component
+public class ReferenceDetailCache {
+
+    private final ReferenceRepository referenceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LoadingCache<Long, ReferenceResponse> cache;
+
+    public ReferenceDetailCache(ReferenceRepository referenceRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.reference-detail-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${app.reference-detail-cache.refresh-after-write:30s}") Duration refreshAfterWrite,
+                                @Value("${app.reference-detail-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.referenceRepository = referenceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reference-detail");
+    }
+
+    /** 캐시된 상세 응답을 반환한다. 자료가 없으면 null (없는 id 는 캐시하지 않는다). */
+    public ReferenceResponse get(Long id) {
+        return cache.get(id);
+    }
+
+    /** 트랜잭션 커밋 후 해당 자료의 캐시 항목을 제거한다. */
+    public void invalidateAfterCommit(Long id) {
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    /** 카테고리 이름 변경처럼 여러 자료 응답에 영향을 주는 변경 후 전체를 비운다. */
+    public void invalidateAllAfterCommit() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    private ReferenceResponse load(Long id) {
+        return readOnlyTransaction.execute(status -> referenceRepository.findById(id)
+                .map(ReferenceResponse::from)
+                .orElse(null));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
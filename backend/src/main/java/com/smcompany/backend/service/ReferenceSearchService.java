@@ -0,0 +1,123 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.repository.ReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 자료실 검색 엔진.
+ * <p>MySQL FULLTEXT 인덱스(ngram 파서, 한글 대응)가 준비되어 있으면 관련도 순 전문 검색을 사용하고,
+ * 인덱스가 없거나(H2 등) 검색어가 ngram 토큰보다 짧으면 기존 LIKE 검색으로 대체한다.
+ * <p>인덱스 유무는 기동 시 한 번 확인한다. 전문 검색 쿼리는 JPA 를 거치지 않고 JdbcTemplate 으로 요청 트랜잭션의
+ * 커넥션에서 실행하므로, 실패해도 영속성 컨텍스트나 트랜잭션이 rollback-only 가 되지 않고 커넥션을 하나 더 쓰지도 않는다.
+ * 실패한 요청은 같은 트랜잭션에서 LIKE 검색으로 처리하고, {@code fulltext-retry-after} 동안은 LIKE 검색만 쓴 뒤 다시 시도한다.
+ * 기동 시 인덱스를 확인하지 못했으면(DB 일시 장애 등) {@code fulltext-probe-interval-ms} 마다 다시 확인한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceSearchService {
+
+    static final String FULLTEXT_INDEX_NAME = "ft_reference_title_description";
+
+    /** ngram FULLTEXT 인덱스(title, description)를 사용한 검색. 관련도 → 최신순으로 정렬한다. */
+    private static final String FULLTEXT_IDS_SQL = "SELECT r.id FROM reference r "
+            + "WHERE MATCH(r.title, r.description) AGAINST (? IN BOOLEAN MODE) "
+            + "ORDER BY MATCH(r.title, r.description) AGAINST (? IN BOOLEAN MODE) DESC, "
+            + "r.created_at DESC, r.id DESC LIMIT ? OFFSET ?";
+
+    private static final String FULLTEXT_COUNT_SQL = "SELECT COUNT(*) FROM reference r "
+            + "WHERE MATCH(r.title, r.description) AGAINST (? IN BOOLEAN MODE)";
+
+    private final ReferenceRepository referenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** ngram 파서의 토큰 길이 (MySQL ngram_token_size 기본값 2) */
+    @Value("${app.search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    @Value("${app.search.fulltext-enabled:true}")
+    private boolean fullTextEnabled;
+
+    /** 전문 검색 실패 후 LIKE 검색만 사용하는 시간 */
+    @Value("${app.search.fulltext-retry-after:1m}")
+    private Duration fullTextRetryAfter;
+
+    private volatile boolean fullTextAvailable = false;
+
+    /** 이 시각(ms) 전까지는 전문 검색을 시도하지 않는다. */
+    private volatile long fullTextSuspendedUntil = 0;
+
+    /**
+     * FULLTEXT 인덱스가 없으면 생성한다. ddl-auto 로는 WITH PARSER 구문을 만들 수 없어 기동 시 직접 확인한다.
+     */
+    public void initFullTextIndex() {
+        if (!fullTextEnabled) {
+            return;
+        }
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'reference' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX_NAME);
+            if (existing == null || existing == 0) {
+                jdbcTemplate.execute("ALTER TABLE reference ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME
+                        + " (title, description) WITH PARSER ngram");
+                log.info("자료실 FULLTEXT 인덱스를 생성했습니다: {}", FULLTEXT_INDEX_NAME);
+            }
+            fullTextAvailable = true;
+        } catch (DataAccessException e) {
+            fullTextAvailable = false;
+            log.warn("FULLTEXT 인덱스를 사용할 수 없어 LIKE 검색으로 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    /** 기동 시 인덱스를 확인하지 못했으면 주기적으로 다시 확인한다. */
+    @Scheduled(initialDelayString = "${app.search.fulltext-probe-interval-ms:300000}",
+            fixedDelayString = "${app.search.fulltext-probe-interval-ms:300000}")
+    public void reprobeFullTextIndex() {
+        if (fullTextEnabled && !fullTextAvailable) {
+            initFullTextIndex();
+        }
+    }
+
+    public Page<Long> searchIds(String keyword, Pageable pageable) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (isFullTextUsable() && trimmed.length() >= ngramTokenSize) {
+            try {
+                return searchFullText(toPhraseQuery(trimmed), pageable);
+            } catch (DataAccessException e) {
+                fullTextSuspendedUntil = System.currentTimeMillis() + fullTextRetryAfter.toMillis();
+                log.warn("FULLTEXT 검색 실패, {} 동안 LIKE 검색으로 대체합니다: {}", fullTextRetryAfter, e.getMessage());
+            }
+        }
+        return referenceRepository.findIdsByKeyword(trimmed, pageable);
+    }
+
+    private Page<Long> searchFullText(String query, Pageable pageable) {
+        List<Long> ids = jdbcTemplate.queryForList(FULLTEXT_IDS_SQL, Long.class,
+                query, query, pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(ids, pageable,
+                () -> jdbcTemplate.queryForObject(FULLTEXT_COUNT_SQL, Long.class, query));
+    }
+
+    private boolean isFullTextUsable() {
+        return fullTextAvailable && System.currentTimeMillis() >= fullTextSuspendedUntil;
+    }
+
+    /** 검색어 전체를 하나의 구문으로 묶어 LIKE '%kw%' 와 같은 포함 검색 의미를 유지한다. */
+    private String toPhraseQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+}
@@ -1,6 +1,8 @@
 package com.smcompany.backend.service;
 
+import com.smcompany.backend.dto.request.PageCursor;
 import com.smcompany.backend.dto.request.ReferenceRequest;
+import com.smcompany.backend.dto.response.CursorPageResponse;
 import com.smcompany.backend.dto.response.ReferenceResponse;
 import com.smcompany.backend.entity.Reference;
 import com.smcompany.backend.entity.ReferenceCategory;
@@ -9,15 +11,33 @@ import com.smcompany.backend.entity.ReferenceImage;
 import com.smcompany.backend.repository.ReferenceCategoryRepository;
 import com.smcompany.backend.repository.ReferenceImageRepository;
 import com.smcompany.backend.repository.ReferenceRepository;
+import com.smcompany.backend.service.ListPageCache.ListType;
+import com.smcompany.backend.service.ThumbnailVariantService.VariantChoice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,26 +48,73 @@ public class ReferenceService {
     private final ReferenceCategoryRepository categoryRepository;
     private final ReferenceImageRepository referenceImageRepository;
     private final FileStorageService fileStorageService;
+    private final ReferenceSearchService referenceSearchService;
+    private final DownloadCountBuffer downloadCountBuffer;
+    private final ThumbnailVariantService thumbnailVariantService;
+    private final ThreadPoolTaskExecutor storageExecutor;
+    private final ReferenceCatalogCache referenceCatalogCache;
+    private final ReferenceDetailCache referenceDetailCache;
+    private final ListPageCache listPageCache;
+    private final FileMetadataCache fileMetadataCache;
+    private final StoredFileReleaser storedFileReleaser;
 
     public Page<ReferenceResponse> getAllReferences(Pageable pageable) {
-        return referenceRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(ReferenceResponse::from);
+        return toResponsePage(referenceRepository.findIdsByOrderByCreatedAtDesc(pageable));
     }
 
     public Page<ReferenceResponse> searchReferences(String keyword, Pageable pageable) {
-        return referenceRepository.findByTitleContainingOrDescriptionContainingOrderByCreatedAtDesc(
-                keyword, keyword, pageable).map(ReferenceResponse::from);
+        return toResponsePage(referenceSearchService.searchIds(keyword, pageable));
     }
 
     public Page<ReferenceResponse> getReferencesByCategory(Long categoryId, Pageable pageable) {
-        return referenceRepository.findByCategoryId(categoryId, pageable)
-                .map(ReferenceResponse::from);
+        return toResponsePage(referenceRepository.findIdsByCategoryId(categoryId, pageable));
     }
 
+    public CursorPageResponse<ReferenceResponse> getReferencesByCursor(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Long> ids = after == null
+                ? referenceRepository.findIdsOrderByCreatedAtDesc(limit)
+                : referenceRepository.findIdsAfterCursor(after.getCreatedAt(), after.getId(), limit);
+        return CursorPageResponse.of(toResponses(ids), size,
+                ref -> PageCursor.of(ref.getCreatedAt(), ref.getId()).encode());
+    }
+
+    /**
+     * id 페이지를 받아 카테고리/첨부파일/갤러리 이미지를 일괄 로딩한 뒤 응답으로 변환한다.
+     * <p>페이지 크기와 무관하게 id 조회(+count), 카테고리·첨부파일 조회, 이미지 조회의 고정된 쿼리 수로 끝난다.</p>
+     */
+    private Page<ReferenceResponse> toResponsePage(Page<Long> idPage) {
+        List<ReferenceResponse> content = toResponses(idPage.getContent());
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    private List<ReferenceResponse> toResponses(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Reference> byId = referenceRepository.findWithCategoryAndFilesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Reference::getId, Function.identity()));
+        referenceRepository.findWithImagesByIdIn(ids);
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(ReferenceResponse::from)
+                .toList();
+    }
+
+    /**
+     * 캐시 적중 시 DB 연결 없이 응답하도록 트랜잭션을 열지 않는다.
+     * 미스일 때는 캐시 로더가 자체 읽기 전용 트랜잭션으로 조회한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReferenceResponse getReference(Long id) {
-        Reference reference = referenceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("자료를 찾을 수 없습니다."));
-        return ReferenceResponse.from(reference);
+        ReferenceResponse response = referenceDetailCache.get(id);
+        if (response == null) {
+            throw new RuntimeException("자료를 찾을 수 없습니다.");
+        }
+        return response;
     }
 
     @Transactional
@@ -56,16 +123,31 @@ public class ReferenceService {
         ReferenceCategory category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
 
-        String storedFileName = null;
-        String originalFileName = null;
-        if (file != null && !file.isEmpty()) {
-            storedFileName = fileStorageService.storeFile(file);
-            originalFileName = file.getOriginalFilename();
+        // 메인 파일, 썸네일, 갤러리 이미지를 I/O 작업 풀에서 동시에 저장
+        CompletableFuture<String> fileFuture = storeAsync(file, fileStorageService::storeFile);
+        CompletableFuture<String> thumbnailFuture = storeAsync(thumbnail, fileStorageService::storeThumbnail);
+        List<CompletableFuture<String>> imageFutures = new ArrayList<>();
+        if (images != null) {
+            for (MultipartFile img : images) {
+                imageFutures.add(storeAsync(img, fileStorageService::storeThumbnail));
+            }
         }
-        String thumbnailName = null;
-        if (thumbnail != null && !thumbnail.isEmpty()) {
-            thumbnailName = fileStorageService.storeThumbnail(thumbnail);
+        List<CompletableFuture<String>> thumbnailFutures = new ArrayList<>(imageFutures);
+        thumbnailFutures.add(thumbnailFuture);
+        awaitStored(List.of(fileFuture), thumbnailFutures);
+
+        String storedFileName = fileFuture.join();
+        String originalFileName = storedFileName != null ? file.getOriginalFilename() : null;
+        String thumbnailName = thumbnailFuture.join();
+
+        Set<String> writtenFiles = new LinkedHashSet<>();
+        Set<String> writtenThumbnails = new LinkedHashSet<>();
+        if (storedFileName != null) {
+            writtenFiles.add(storedFileName);
         }
+        thumbnailFutures.stream().map(CompletableFuture::join).filter(Objects::nonNull)
+                .forEach(writtenThumbnails::add);
+        discardOnRollback(writtenFiles, writtenThumbnails);
 
         Reference reference = Reference.builder()
                 .category(category)
@@ -78,54 +160,132 @@ public class ReferenceService {
 
         Reference saved = referenceRepository.save(reference);
 
-        // 갤러리 이미지 저장 (최대 5장)
-        if (images != null) {
-            for (int i = 0; i < images.size(); i++) {
+        List<String> imageNames = new ArrayList<>();
+        if (thumbnailName != null) {
+            imageNames.add(thumbnailName);
+        }
+
+        // 갤러리 이미지 저장 (최대 5장, JDBC 배치로 한 번에 INSERT)
+        List<ReferenceImage> galleryImages = new ArrayList<>();
+        for (int i = 0; i < imageFutures.size(); i++) {
+            String storedImg = imageFutures.get(i).join();
+            if (storedImg != null) {
                 MultipartFile img = images.get(i);
-                if (img != null && !img.isEmpty()) {
-                    String storedImg = fileStorageService.storeThumbnail(img);
-                    ReferenceImage refImage = ReferenceImage.builder()
-                            .reference(saved)
-                            .fileName(img.getOriginalFilename())
-                            .filePath(storedImg)
-                            .sortOrder(i)
-                            .build();
-                    referenceImageRepository.save(refImage);
-                }
+                galleryImages.add(ReferenceImage.builder()
+                        .reference(saved)
+                        .fileName(img.getOriginalFilename())
+                        .filePath(storedImg)
+                        .sortOrder(i)
+                        .build());
+                imageNames.add(storedImg);
             }
         }
+        attachImages(saved, galleryImages);
+        referenceCatalogCache.evictReferenceAfterCommit(saved.getId());
+        listPageCache.invalidateAfterCommit(ListType.REFERENCES);
+
+        thumbnailVariantService.generateAfterCommit(imageNames);
 
         return ReferenceResponse.from(referenceRepository.findById(saved.getId()).orElseThrow());
     }
 
-    @Transactional
-    public Resource downloadFile(Long id) {
-        Reference reference = referenceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("자료를 찾을 수 없습니다."));
-        reference.incrementDownloadCount();
-        return fileStorageService.loadFileAsResource(reference.getFilePath());
+    /**
+     * 이미지를 자료에 연결하고 일괄 저장한다. id 를 테이블 생성기에서 미리 할당받으므로
+     * flush 시 hibernate.jdbc.batch_size 단위의 배치 INSERT 로 전송된다.
+     */
+    private void attachImages(Reference reference, List<ReferenceImage> galleryImages) {
+        if (galleryImages.isEmpty()) {
+            return;
+        }
+        reference.attachImages(galleryImages);
+        referenceImageRepository.saveAll(galleryImages);
     }
 
-    public Resource loadThumbnail(String thumbnailPath) {
-        return fileStorageService.loadThumbnailAsResource(thumbnailPath);
+    private CompletableFuture<String> storeAsync(MultipartFile part, Function<MultipartFile, String> store) {
+        if (part == null || part.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> store.apply(part), storageExecutor);
     }
 
-    public Resource loadGalleryImage(Long imageId) {
-        ReferenceImage refImage = referenceImageRepository.findById(imageId)
-                .orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
-        return fileStorageService.loadThumbnailAsResource(refImage.getFilePath());
+    /**
+     * 모든 저장 작업이 끝날 때까지 기다린다. 하나라도 실패하면 이미 저장된 파일을 정리하고 예외를 던진다.
+     */
+    private void awaitStored(List<CompletableFuture<String>> fileFutures,
+                             List<CompletableFuture<String>> thumbnailFutures) {
+        List<CompletableFuture<String>> all = new ArrayList<>(fileFutures);
+        all.addAll(thumbnailFutures);
+        try {
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            discardUnreferenced(succeeded(fileFutures), succeeded(thumbnailFutures));
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause : new RuntimeException("파일 저장에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private Set<String> succeeded(List<CompletableFuture<String>> futures) {
+        return futures.stream()
+                .filter(future -> !future.isCompletedExceptionally())
+                .map(future -> future.getNow(null))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /** 자료 저장 트랜잭션이 롤백되면 이번 요청에서 쓴 파일을 정리한다. */
+    private void discardOnRollback(Set<String> files, Set<String> thumbnails) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    discardUnreferenced(files, thumbnails);
+                }
+            }
+        });
+    }
+
+    /**
+     * 요청 스레드의 트랜잭션과 분리된 I/O 작업 풀에서, 다른 자료가 참조하지 않는 파일만 지운다.
+     * 내용 주소 저장 시 같은 내용을 쓰는 다른 자료가 아직 커밋 전일 수 있으므로 삭제와 같은 유예 규칙을 따른다.
+     */
+    private void discardUnreferenced(Set<String> files, Set<String> thumbnails) {
+        if (files.isEmpty() && thumbnails.isEmpty()) {
+            return;
+        }
+        storageExecutor.execute(() -> storedFileReleaser.releaseUnreferenced(files, thumbnails));
+    }
+
+    /** 첨부파일 응답 메타데이터. 캐시 적중 시 DB 와 파일 속성을 조회하지 않는다. */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StoredFileMetadata getDownloadFile(Long id) {
+        return fileMetadataCache.findDownload(id)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+    }
+
+    /** 대표 썸네일 메타데이터. 썸네일이 없으면 empty. */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<StoredFileMetadata> findThumbnail(Long id) {
+        return fileMetadataCache.findThumbnail(id);
     }
 
-    public String getGalleryImageFileName(Long imageId) {
-        ReferenceImage refImage = referenceImageRepository.findById(imageId)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StoredFileMetadata getGalleryImage(Long imageId) {
+        return fileMetadataCache.findGalleryImage(imageId)
                 .orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
-        return refImage.getFilePath();
     }
 
-    public String getOriginalFileName(Long id) {
-        Reference reference = referenceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("자료를 찾을 수 없습니다."));
-        return reference.getFileName();
+    /** 다운로드 횟수는 {@link DownloadCountBuffer} 에 모았다가 주기적으로 반영하므로 DB 를 갱신하지 않는다. */
+    public void recordDownload(Long id) {
+        downloadCountBuffer.increment(id);
+    }
+
+    public Resource loadThumbnail(String thumbnailPath) {
+        return fileStorageService.loadThumbnailAsResource(thumbnailPath);
+    }
+
+    /** 요청 너비에 맞는 축소본, 없으면 원본을 최종/대기 중으로 구분해 반환한다. */
+    public VariantChoice resolveThumbnailVariant(StoredFileMetadata image, Integer width) {
+        return thumbnailVariantService.resolveVariant(image.storedName(), image.lastModified(), width);
     }
 
     @Transactional
@@ -133,24 +293,52 @@ public class ReferenceService {
         Reference reference = referenceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("자료를 찾을 수 없습니다."));
 
-        // 메인 파일 삭제
+        // 메인 파일 + 추가 파일 / 썸네일 + 갤러리 이미지
+        Set<String> files = new LinkedHashSet<>();
+        Set<String> thumbnails = new LinkedHashSet<>();
         if (reference.getFilePath() != null) {
-            fileStorageService.deleteFile(reference.getFilePath());
+            files.add(reference.getFilePath());
         }
         if (reference.getThumbnailPath() != null) {
-            fileStorageService.deleteThumbnail(reference.getThumbnailPath());
+            thumbnails.add(reference.getThumbnailPath());
         }
-
-        // 추가 파일들 삭제
         for (ReferenceFile refFile : reference.getFiles()) {
-            fileStorageService.deleteFile(refFile.getFilePath());
+            files.add(refFile.getFilePath());
         }
-
-        // 갤러리 이미지 삭제
+        List<Long> imageIds = new ArrayList<>();
         for (ReferenceImage refImage : reference.getImages()) {
-            fileStorageService.deleteThumbnail(refImage.getFilePath());
+            thumbnails.add(refImage.getFilePath());
+            imageIds.add(refImage.getId());
         }
 
         referenceRepository.delete(reference);
+        referenceRepository.flush();
+        downloadCountBuffer.discard(id);
+        referenceCatalogCache.evictReferenceAfterCommit(id);
+        referenceDetailCache.invalidateAfterCommit(id);
+        listPageCache.invalidateAfterCommit(ListType.REFERENCES);
+        fileMetadataCache.invalidateAfterCommit(id, imageIds);
+        releaseStoredFiles(files, thumbnails);
+    }
+
+    /**
+     * 같은 내용의 파일은 여러 자료가 하나의 blob 을 공유하므로, 남은 참조(자료 본문/썸네일,
+     * 추가 첨부파일, 갤러리 이미지 행) 수가 0 인 파일만 커밋 이후 디스크에서 지운다.
+     */
+    private void releaseStoredFiles(Set<String> files, Set<String> thumbnails) {
+        List<String> orphanFiles = files.stream()
+                .filter(path -> !storedFileReleaser.isFileReferenced(path))
+                .toList();
+        List<String> orphanThumbnails = thumbnails.stream()
+                .filter(path -> !storedFileReleaser.isThumbnailReferenced(path))
+                .toList();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orphanFiles.forEach(storedFileReleaser::releaseFile);
+                orphanThumbnails.forEach(storedFileReleaser::releaseThumbnail);
+            }
+        });
     }
 }
@@ -0,0 +1,75 @@
+package com.smcompany.backend.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 요청당 SQL 수/시간 집계.
+ * <p>Micrometer 에는 {@code http.server.queries}(요청당 SQL 수)와 {@code http.server.query.time}(요청당 SQL 실행 시간)을
+ * method/uri 태그로 기록하고, 관리자 화면용으로 노드 기동 이후 누적값을 보관한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestQueryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxQueries = new LongAccumulator(Math::max, 0);
+    }
+
+    public void record(String method, String uri, int queries, long nanos) {
+        DistributionSummary.builder("http.server.queries")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(queries);
+        Timer.builder("http.server.query.time")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        EndpointStats stats = endpoints.computeIfAbsent(method + " " + uri, key -> new EndpointStats());
+        stats.requests.increment();
+        stats.queries.add(queries);
+        stats.nanos.add(nanos);
+        stats.maxQueries.accumulate(queries);
+    }
+
+    /** 엔드포인트별 요청 수, SQL 수(합계/평균/최대), SQL 시간(합계/평균, ms). SQL 수가 많은 순. */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, EndpointStats> entry) -> entry.getValue().queries.sum()).reversed())
+                .forEach(entry -> {
+                    EndpointStats stats = entry.getValue();
+                    long requests = Math.max(1, stats.requests.sum());
+                    long sqlMillis = TimeUnit.NANOSECONDS.toMillis(stats.nanos.sum());
+                    Map<String, Object> summary = new LinkedHashMap<>();
+                    summary.put("requests", stats.requests.sum());
+                    summary.put("queries", stats.queries.sum());
+                    summary.put("avgQueries", Math.round(stats.queries.sum() * 100.0 / requests) / 100.0);
+                    summary.put("maxQueries", stats.maxQueries.get());
+                    summary.put("sqlTimeMs", sqlMillis);
+                    summary.put("avgSqlTimeMs", Math.round(sqlMillis * 100.0 / requests) / 100.0);
+                    result.put(entry.getKey(), summary);
+                });
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.smcompany.backend.service;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 응답 메타데이터 (저장 파일명, 원본 파일명, 미디어 타입, 실제 경로, 크기, 수정 시각).
+ * 바이너리 응답 시 DB 와 파일 속성 조회를 한 번으로 줄이기 위해 {@link FileMetadataCache} 가 보관한다.
+ */
+public record StoredFileMetadata(String storedName, String originalName, MediaType mediaType,
+                                 Path path, long size, long lastModified) {
+}
@@ -0,0 +1,103 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.repository.ReferenceFileRepository;
+import com.smcompany.backend.repository.ReferenceImageRepository;
+import com.smcompany.backend.repository.ReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내용 주소 blob 의 참조 수 확인과 정리.
+ * <p>같은 blob 은 자료 본문/썸네일, 추가 첨부파일, 갤러리 이미지 행이 함께 참조할 수 있으므로 세 곳의 참조 수가
+ * 모두 0 일 때만 지운다. 유예 시간 안에 저장/공유된 blob 은 커밋 전인 다른 자료가 쓰고 있을 수 있어
+ * 바로 지우지 않고 대기열에 넣어 두었다가, 유예 시간이 지난 뒤 참조 수를 다시 확인해 정리한다.
+ * 대기열은 노드 메모리에만 있으므로 그 사이 재시작하면 해당 blob 은 남는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoredFileReleaser {
+
+    private final ReferenceRepository referenceRepository;
+    private final ReferenceFileRepository referenceFileRepository;
+    private final ReferenceImageRepository referenceImageRepository;
+    private final FileStorageService fileStorageService;
+    private final ThumbnailVariantService thumbnailVariantService;
+
+    /** 정리를 미룬 blob → 다시 확인할 시각(ms) */
+    private final Map<String, Long> deferredFiles = new ConcurrentHashMap<>();
+    private final Map<String, Long> deferredThumbnails = new ConcurrentHashMap<>();
+
+    /** 자료 본문 파일 또는 추가 첨부파일로 참조되는지 */
+    public boolean isFileReferenced(String path) {
+        return referenceRepository.countByFilePath(path) + referenceFileRepository.countByFilePath(path) > 0;
+    }
+
+    /** 자료 썸네일 또는 갤러리 이미지로 참조되는지 */
+    public boolean isThumbnailReferenced(String path) {
+        return referenceRepository.countByThumbnailPath(path) + referenceImageRepository.countByFilePath(path) > 0;
+    }
+
+    /** 참조가 남지 않은 파일/이미지를 지운다. 유예 시간 안에 공유된 blob 은 나중에 다시 확인한다. */
+    public void releaseUnreferenced(Collection<String> files, Collection<String> thumbnails) {
+        files.stream().filter(path -> !isFileReferenced(path)).forEach(this::releaseFile);
+        thumbnails.stream().filter(path -> !isThumbnailReferenced(path)).forEach(this::releaseThumbnail);
+    }
+
+    /** 이미 참조 수를 확인한 파일을 지운다. 유예 시간 안에 공유된 blob 이면 대기열에 넣는다. */
+    public void releaseFile(String path) {
+        if (!fileStorageService.releaseFile(path)) {
+            deferredFiles.put(path, System.currentTimeMillis() + fileStorageService.getReleaseGraceMillis());
+        }
+    }
+
+    /** 이미 참조 수를 확인한 이미지와 그 축소본을 지운다. 유예 시간 안에 공유된 blob 이면 대기열에 넣는다. */
+    public void releaseThumbnail(String path) {
+        if (fileStorageService.releaseThumbnail(path)) {
+            thumbnailVariantService.deleteVariants(path);
+        } else {
+            deferredThumbnails.put(path, System.currentTimeMillis() + fileStorageService.getReleaseGraceMillis());
+        }
+    }
+
+    /** 유예 시간이 지난 대기 blob 의 참조 수를 다시 확인해, 그 사이 다시 참조되지 않았으면 지운다. */
+    @Scheduled(fixedDelayString = "${file.release-sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        deferredFiles.forEach((path, dueAt) -> {
+            if (dueAt <= now && deferredFiles.remove(path, dueAt)) {
+                try {
+                    if (!isFileReferenced(path)) {
+                        releaseFile(path);
+                    }
+                } catch (RuntimeException e) {
+                    deferredFiles.putIfAbsent(path, dueAt);
+                    log.warn("첨부파일 정리 실패, 다음 주기에 재시도합니다: {} ({})", path, e.getMessage());
+                }
+            }
+        });
+        deferredThumbnails.forEach((path, dueAt) -> {
+            if (dueAt <= now && deferredThumbnails.remove(path, dueAt)) {
+                try {
+                    if (!isThumbnailReferenced(path)) {
+                        releaseThumbnail(path);
+                    }
+                } catch (RuntimeException e) {
+                    deferredThumbnails.putIfAbsent(path, dueAt);
+                    log.warn("이미지 정리 실패, 다음 주기에 재시도합니다: {} ({})", path, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /** 정리를 기다리는 blob 수 */
+    public int deferredCount() {
+        return deferredFiles.size() + deferredThumbnails.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 썸네일/갤러리 이미지의 축소본(variant) 생성 및 선택.
+ * <p>자료 등록이 커밋된 뒤 원본 이미지를 설정된 너비(기본 160/480/1024px)로 축소해
+ * {@code <원본명>_w<너비>.<확장자>} 로 저장한다. 원본보다 큰 축소본은 만들지 않으며,
+ * 축소본이 준비되기 전이나 ImageIO 가 읽지 못하는 형식(webp 등)은 원본을 그대로 제공한다.</p>
+ * <p>축소본 생성이 진행 중일 때만 원본 응답을 "대기 중"으로 본다. 이 노드에서 작업이 대기/실행 중이거나,
+ * 원본이 저장된 지 {@code pending-window} 가 지나지 않았으면(다른 노드에서 생성 중일 수 있음) 대기 중이다.
+ * 그 밖에 축소본이 없으면(원본이 요청 너비보다 좁거나, 읽을 수 없는 형식이거나, 작업이 거절된 경우)
+ * 원본이 최종 응답이다. 최종 결과는 메모리에 기억해 같은 요청마다 파일 속성을 다시 조회하지 않는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailVariantService {
+
+    private final FileStorageService fileStorageService;
+
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @Value("${app.thumbnail.widths:160,480,1024}")
+    private int[] widths;
+
+    @Value("${app.thumbnail.pending-window:2m}")
+    private Duration pendingWindow;
+
+    /**
+     * 요청 너비에 대한 응답 파일.
+     * variant 가 null 이면 원본을 보내고, pending 이면 축소본이 곧 준비되므로 짧게만 캐시해야 한다.
+     */
+    public record VariantChoice(String variant, long lastModified, boolean pending) {
+    }
+
+    /** 이 노드에서 생성 작업이 대기/실행 중인 원본 */
+    private final Set<String> pendingJobs = ConcurrentHashMap.newKeySet();
+
+    /** (원본, 선택된 너비) → 더 이상 바뀌지 않는 선택 결과 */
+    private final Cache<String, VariantChoice> resolved = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    /** 트랜잭션 커밋 후 축소본 생성을 작업 풀에 맡긴다. 풀이 가득 차면 건너뛰고 원본으로 제공한다. */
+    public void generateAfterCommit(List<String> storedNames) {
+        Runnable submit = () -> storedNames.forEach(name -> {
+            pendingJobs.add(name);
+            try {
+                thumbnailExecutor.execute(() -> {
+                    try {
+                        generate(name);
+                    } finally {
+                        pendingJobs.remove(name);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                pendingJobs.remove(name);
+                log.warn("썸네일 작업 대기열이 가득 차 축소본 생성을 건너뜁니다: {}", name);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 축소본을 고른다. 축소본이 없으면 원본(variant null)이며,
+     * 생성이 진행 중인지에 따라 pending 을 표시한다.
+     *
+     * @param originalLastModified 원본 수정 시각(ms), 다른 노드의 생성 대기 여부 판단에 쓴다
+     */
+    public VariantChoice resolveVariant(String storedName, long originalLastModified, Integer requestedWidth) {
+        if (requestedWidth == null || requestedWidth <= 0) {
+            return new VariantChoice(null, originalLastModified, false);
+        }
+        int[] sorted = sortedWidths();
+        int width = sorted[sorted.length - 1];
+        for (int candidate : sorted) {
+            if (candidate >= requestedWidth) {
+                width = candidate;
+                break;
+            }
+        }
+        String key = storedName + "@" + width;
+        VariantChoice cached = resolved.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String variant = variantName(storedName, width);
+        if (fileStorageService.thumbnailExists(variant)) {
+            VariantChoice choice = new VariantChoice(variant, fileStorageService.getThumbnailLastModified(variant), false);
+            resolved.put(key, choice);
+            return choice;
+        }
+        boolean pending = pendingJobs.contains(storedName)
+                || System.currentTimeMillis() - originalLastModified < pendingWindow.toMillis();
+        VariantChoice original = new VariantChoice(null, originalLastModified, pending);
+        if (!pending) {
+            resolved.put(key, original);
+        }
+        return original;
+    }
+
+    public void deleteVariants(String storedName) {
+        for (int width : widths) {
+            resolved.invalidate(storedName + "@" + width);
+            fileStorageService.deleteThumbnail(variantName(storedName, width));
+        }
+    }
+
+    void generate(String storedName) {
+        try {
+            Path source = fileStorageService.resolveThumbnail(storedName);
+            BufferedImage original = ImageIO.read(source.toFile());
+            if (original == null) {
+                return;
+            }
+            for (int width : widths) {
+                if (width >= original.getWidth()) {
+                    continue;
+                }
+                String variant = variantName(storedName, width);
+                String format = formatOf(variant);
+                fileStorageService.storeThumbnailVariant(variant, scale(original, width, format.equals("png")), format);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 축소본 생성 실패: {} ({})", storedName, e.getMessage());
+        }
+    }
+
+    /** 원본 확장자가 png/gif 이면 투명도를 유지하도록 png, 그 외에는 jpg 로 저장한다. */
+    String variantName(String storedName, int width) {
+        int dot = storedName.lastIndexOf('.');
+        String base = dot >= 0 ? storedName.substring(0, dot) : storedName;
+        String ext = dot >= 0 ? storedName.substring(dot + 1).toLowerCase() : "";
+        String format = ext.equals("png") || ext.equals("gif") ? "png" : "jpg";
+        return base + "_w" + width + "." + format;
+    }
+
+    private String formatOf(String variantName) {
+        return variantName.endsWith(".png") ? "png" : "jpg";
+    }
+
+    /** 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소한다. */
+    private BufferedImage scale(BufferedImage source, int targetWidth, boolean keepAlpha) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int type = keepAlpha && source.getColorModel().hasAlpha()
+                ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private int[] sortedWidths() {
+        int[] sorted = widths.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
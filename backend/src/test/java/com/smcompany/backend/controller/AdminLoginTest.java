@@ -0,0 +1,53 @@
+package com.smcompany.backend.controller;
+
+import com.smcompany.backend.service.AdminTokenService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 토큰 모드 로그인은 토큰을 HttpOnly 쿠키로만 내려준다. */
+@SpringBootTest(properties = {
+        "app.admin.token.enabled=true",
+        "app.admin.token.secret=test-secret-0123456789abcdef0123456789"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AdminLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void loginSetsHttpOnlyCookieWithoutTokenInBody() throws Exception {
+        Cookie cookie = mockMvc.perform(post("/api/admin/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"admin1234\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").exists())
+                .andExpect(jsonPath("$.expiresIn").isNumber())
+                .andExpect(jsonPath("$.token").doesNotExist())
+                .andReturn().getResponse().getCookie(AdminTokenService.COOKIE_NAME);
+
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+
+        // 비브라우저 클라이언트는 쿠키 값을 Bearer 토큰으로 쓸 수 있다.
+        mockMvc.perform(get("/api/admin/check")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + cookie.getValue()))
+                .andExpect(jsonPath("$.loggedIn").value(true));
+    }
+}
@@ -0,0 +1,113 @@
+package com.smcompany.backend.controller;
+
+import com.smcompany.backend.entity.QnaComment;
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaCommentRepository;
+import com.smcompany.backend.repository.QnaPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호를 확인하는 모든 Q&A 경로가 같은 대상별 버킷을 쓰는지 확인한다.
+ * 비밀번호 확인은 트랜잭션 밖에서 커밋된 해시를 읽으므로 테스트 데이터도 커밋한다.
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.password.target-capacity=2",
+        "app.rate-limit.password.target-refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QnaPasswordRateLimitTest {
+
+    private static final String WRONG_PASSWORD = "{\"password\":\"wrong\"}";
+    private static final String WRONG_POST_UPDATE =
+            "{\"authorName\":\"작성자\",\"password\":\"wrong\",\"title\":\"제목\",\"content\":\"내용\"}";
+    private static final String WRONG_COMMENT_UPDATE = "{\"password\":\"wrong\",\"content\":\"내용\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QnaPostRepository postRepository;
+
+    @Autowired
+    private QnaCommentRepository commentRepository;
+
+    private QnaPost post;
+    private QnaComment comment;
+
+    @BeforeEach
+    void setUp() {
+        post = QnaPost.builder()
+                .authorName("작성자").password("pw").title("질문").content("내용").isNotice(false)
+                .build();
+        post = postRepository.save(post);
+        comment = commentRepository.save(QnaComment.builder()
+                .post(post).authorName("작성자").password("pw").content("댓글").isAdmin(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll(commentRepository.findByPostIdOrderByCreatedAtAscIdAsc(post.getId()));
+        postRepository.deleteById(post.getId());
+    }
+
+    @Test
+    void updatePostIsLimited() throws Exception {
+        assertLimited(put("/api/qna/" + post.getId()).content(WRONG_POST_UPDATE));
+    }
+
+    @Test
+    void deletePostIsLimited() throws Exception {
+        assertLimited(delete("/api/qna/" + post.getId()).content(WRONG_PASSWORD));
+    }
+
+    @Test
+    void updateCommentIsLimited() throws Exception {
+        assertLimited(put("/api/qna/comments/" + comment.getId()).content(WRONG_COMMENT_UPDATE));
+    }
+
+    @Test
+    void deleteCommentIsLimited() throws Exception {
+        assertLimited(delete("/api/qna/comments/" + comment.getId()).content(WRONG_PASSWORD));
+    }
+
+    @Test
+    void checkPasswordAndDeleteShareTheSameBucket() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/qna/" + post.getId() + "/check-password")
+                            .contentType(MediaType.APPLICATION_JSON).content(WRONG_PASSWORD))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(delete("/api/qna/" + post.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(WRONG_PASSWORD))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    /** 버킷 용량(2)만큼은 비밀번호 불일치(403), 그다음은 해시 계산 없이 429 */
+    private void assertLimited(MockHttpServletRequestBuilder request) throws Exception {
+        request.contentType(MediaType.APPLICATION_JSON);
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(request).andExpect(status().isForbidden());
+        }
+        mockMvc.perform(request)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+}
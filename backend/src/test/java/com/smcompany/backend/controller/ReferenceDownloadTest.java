@@ -0,0 +1,165 @@
+package com.smcompany.backend.controller;
+
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import com.smcompany.backend.service.DownloadCountBuffer;
+import com.smcompany.backend.service.FileStorageService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 첨부파일 다운로드의 Range/If-Range/HEAD 응답과 다운로드 횟수 집계 규칙 */
+@SpringBootTest(properties = {
+        "app.download-count.flush-interval-ms=3600000",
+        "file.content-addressed=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ReferenceDownloadTest {
+
+    /** 100 바이트: "0123456789" 를 10번 반복 */
+    private static final String BODY = "0123456789".repeat(10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private DownloadCountBuffer downloadCountBuffer;
+
+    private String storedName;
+    private Long referenceId;
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        storedName = fileStorageService.storeFile(new MockMultipartFile("file", "doc.txt", "text/plain",
+                BODY.getBytes(StandardCharsets.US_ASCII)));
+        ReferenceCategory category = ReferenceCategory.builder().name("다운로드").sortOrder(0).build();
+        entityManager.persist(category);
+        Reference reference = Reference.builder()
+                .category(category).title("자료").fileName("doc.txt").filePath(storedName)
+                .build();
+        entityManager.persist(reference);
+        entityManager.flush();
+        referenceId = reference.getId();
+        url = "/api/references/" + referenceId + "/download";
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        downloadCountBuffer.discard(referenceId);
+        Files.deleteIfExists(fileStorageService.resolveFile(storedName));
+    }
+
+    @Test
+    void fullDownloadIsCounted() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().string(BODY));
+
+        assertThat(downloadCountBuffer.pendingCount(referenceId)).isEqualTo(1);
+    }
+
+    @Test
+    void singleRangeFromZeroIsCountedButResumeIsNot() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/100"))
+                .andExpect(content().string("0123456789"));
+        assertThat(downloadCountBuffer.pendingCount(referenceId)).isEqualTo(1);
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=15-24"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 15-24/100"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().string("5678901234"));
+        assertThat(downloadCountBuffer.pendingCount(referenceId)).isEqualTo(1);
+    }
+
+    @Test
+    void suffixRangeReturnsLastBytes() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().string("56789"));
+    }
+
+    @Test
+    void multipleRangesUseMultipartBodyMatchingContentLength() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-1,50-52"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(response.getContentAsByteArray()).hasSize((int) response.getContentLengthLong());
+        assertThat(body).contains("Content-Range: bytes 0-1/100\r\n\r\n01")
+                .contains("Content-Range: bytes 50-52/100\r\n\r\n012");
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=200-300"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void ifRangeMismatchFallsBackToFullBody() throws Exception {
+        mockMvc.perform(get(url)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"stale-etag\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void matchingIfRangeKeepsPartialResponse() throws Exception {
+        String etag = mockMvc.perform(head(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=10-19").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void headSendsHeadersOnlyAndIsNotCounted() throws Exception {
+        mockMvc.perform(head(url))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(""));
+
+        assertThat(downloadCountBuffer.pendingCount(referenceId)).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.Admin;
+import com.smcompany.backend.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.admin.token.enabled=true",
+        "app.admin.token.secret=test-secret-0123456789abcdef0123456789"
+})
+@ActiveProfiles("test")
+@Transactional
+class AdminTokenServiceTest {
+
+    @Autowired
+    private AdminTokenService adminTokenService;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = adminRepository.save(Admin.builder()
+                .username("token-admin").password("x").name("토큰 관리자").build());
+    }
+
+    @Test
+    void issuedTokenVerifiesWithoutSession() {
+        String token = adminTokenService.issueOnLogin(admin.getId());
+
+        assertThat(adminTokenService.verify(token)).hasValueSatisfying(claims -> {
+            assertThat(claims.admin().id()).isEqualTo(admin.getId());
+            assertThat(claims.admin().username()).isEqualTo("token-admin");
+            assertThat(claims.admin().name()).isEqualTo("토큰 관리자");
+        });
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = adminTokenService.issueOnLogin(admin.getId());
+        String tampered = (token.charAt(0) == 'A' ? "B" : "A") + token.substring(1);
+
+        assertThat(adminTokenService.verify(tampered)).isEmpty();
+        assertThat(adminTokenService.verify("garbage")).isEmpty();
+    }
+
+    @Test
+    void newLoginRevokesPreviousToken() {
+        String first = adminTokenService.issueOnLogin(admin.getId());
+        String second = adminTokenService.issueOnLogin(admin.getId());
+
+        assertThat(adminTokenService.verify(first)).isEmpty();
+        assertThat(adminTokenService.verify(second)).isPresent();
+    }
+
+    @Test
+    void logoutRevokesToken() {
+        String token = adminTokenService.issueOnLogin(admin.getId());
+        adminTokenService.revoke(admin.getId());
+
+        assertThat(adminTokenService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void tokenModeRequiresSharedSecretOfAtLeast32Bytes() {
+        assertThatThrownBy(() -> newService(true, "")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> newService(true, "short-secret")).isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> newService(true, "0123456789abcdef0123456789abcdef")).doesNotThrowAnyException();
+        assertThatCode(() -> newService(false, "")).doesNotThrowAnyException();
+    }
+
+    private AdminTokenService newService(boolean enabled, String secret) {
+        return new AdminTokenService(adminRepository, enabled, secret,
+                Duration.ofMinutes(30), Duration.ofSeconds(30), false);
+    }
+}
@@ -0,0 +1,160 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.dto.request.PageCursor;
+import com.smcompany.backend.dto.response.CursorPageResponse;
+import com.smcompany.backend.dto.response.QnaPostResponse;
+import com.smcompany.backend.dto.response.ReferenceResponse;
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 자료실/Q&A 커서 페이지네이션: 공지→일반글 경계, 같은 작성 일시의 id 정렬, 마지막 페이지, 잘못된 커서 */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CursorPaginationTest {
+
+    /** 모든 픽스처가 같은 작성 일시를 가져 id 로만 순서가 정해진다. */
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2100, 1, 1, 9, 30);
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private ReferenceService referenceService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void qnaCursorCrossesFromNoticesToPostsAndBreaksTiesById() {
+        Long notice1 = savePost(true);
+        Long notice2 = savePost(true);
+        Long post1 = savePost(false);
+        Long post2 = savePost(false);
+        Long post3 = savePost(false);
+        alignCreatedAt("qna_post");
+
+        CursorPageResponse<QnaPostResponse> first = qnaService.getPostsByCursor(null, 2);
+        assertThat(first.getContent()).extracting(QnaPostResponse::getId).containsExactly(notice2, notice1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(first.getNextCursor()).getNotice()).isTrue();
+
+        // 마지막 행이 공지글이면 남은 공지글 다음에 일반글이 이어진다.
+        CursorPageResponse<QnaPostResponse> second = qnaService.getPostsByCursor(first.getNextCursor(), 2);
+        assertThat(second.getContent()).extracting(QnaPostResponse::getId).containsExactly(post3, post2);
+        assertThat(second.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(second.getNextCursor()).getNotice()).isFalse();
+
+        CursorPageResponse<QnaPostResponse> last = qnaService.getPostsByCursor(second.getNextCursor(), 2);
+        assertThat(last.getContent()).extracting(QnaPostResponse::getId).containsExactly(post1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void referenceCursorBreaksTiesByIdAndEndsWithoutNextCursor() {
+        ReferenceCategory category = ReferenceCategory.builder().name("커서").sortOrder(0).build();
+        entityManager.persist(category);
+        Long ref1 = saveReference(category);
+        Long ref2 = saveReference(category);
+        Long ref3 = saveReference(category);
+        alignCreatedAt("reference");
+
+        CursorPageResponse<ReferenceResponse> first = referenceService.getReferencesByCursor(null, 2);
+        assertThat(first.getContent()).extracting(ReferenceResponse::getId).containsExactly(ref3, ref2);
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorPageResponse<ReferenceResponse> last = referenceService.getReferencesByCursor(first.getNextCursor(), 2);
+        assertThat(last.getContent()).extracting(ReferenceResponse::getId).containsExactly(ref1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+
+        // 남은 행 수가 정확히 size 이면 다음 커서를 주지 않는다.
+        CursorPageResponse<ReferenceResponse> exact = referenceService.getReferencesByCursor(null, 3);
+        assertThat(exact.getContent()).hasSize(3);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsMalformedInput() {
+        PageCursor cursor = PageCursor.decode(PageCursor.of(true, CREATED_AT, 42L).encode());
+        assertThat(cursor.getNotice()).isTrue();
+        assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(PageCursor.decode(PageCursor.of(CREATED_AT, 7L).encode()).getNotice()).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+
+        for (String malformed : new String[]{"%%%", encode("1|2100-01-01T09:30"), encode("0|yesterday|1"),
+                encode("0|2100-01-01T09:30|abc")}) {
+            assertThatThrownBy(() -> PageCursor.decode(malformed))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    @Test
+    void malformedCursorReturns400() throws Exception {
+        mockMvc.perform(get("/api/qna/cursor").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/references/cursor").param("cursor", encode("|2100-01-01T09:30|x")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long savePost(boolean notice) {
+        QnaPost post = QnaPost.builder()
+                .authorName("작성자").password("pw").title("커서").content("내용").isNotice(notice)
+                .build();
+        entityManager.persist(post);
+        return post.getId();
+    }
+
+    private Long saveReference(ReferenceCategory category) {
+        Reference reference = Reference.builder()
+                .category(category).title("자료").fileName("doc.txt").filePath("doc.txt")
+                .build();
+        entityManager.persist(reference);
+        return reference.getId();
+    }
+
+    /** @PrePersist 가 채운 작성 일시를 모두 같은 값으로 맞춘다. */
+    private void alignCreatedAt(String table) {
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE " + table + " SET created_at = ?", Timestamp.valueOf(CREATED_AT));
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.smcompany.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DownloadCountBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReferenceCatalogCache referenceCatalogCache = mock(ReferenceCatalogCache.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private DownloadCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        buffer = new DownloadCountBuffer(jdbcTemplate, referenceCatalogCache, transactionManager);
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltasInOneTransaction() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.flush();
+
+        assertThat(flushedBatches()).singleElement()
+                .satisfies(batch -> assertThat(batch).extracting(row -> row[1] + "=" + row[0])
+                        .containsExactlyInAnyOrder("1=2", "2=1"));
+        verify(transactionManager).commit(any());
+        verify(referenceCatalogCache).evictReferenceRows(anyList());
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void failedBatchIsRolledBackAndRequeuedOnce() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(new int[]{1});
+
+        buffer.flush();
+        verify(transactionManager).rollback(any());
+        verify(referenceCatalogCache, never()).evictReferenceRows(anyList());
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2);
+
+        buffer.increment(1L);
+        buffer.flush();
+        List<List<Object[]>> batches = flushedBatches();
+        assertThat(batches.get(1)).singleElement().satisfies(row -> assertThat(row[0]).isEqualTo(3L));
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void failedCommitIsRequeued() {
+        buffer.increment(1L);
+        doThrow(new TransactionSystemException("commit failed")).when(transactionManager).commit(any());
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount(1L)).isEqualTo(1);
+        verify(referenceCatalogCache, never()).evictReferenceRows(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> flushedBatches() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,126 @@
+package com.smcompany.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smcompany.backend.dto.response.QnaPostResponse;
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaPostRepository;
+import com.smcompany.backend.service.ListPageCache.ListType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 목록 페이지 JSON 캐시: 적중 바이트, 커밋/롤백 후 무효화, 무효화와 경합한 빌드, 캐시 대상 판별. 커밋된 데이터로 확인한다. */
+@SpringBootTest
+@ActiveProfiles("test")
+class ListPageCacheTest {
+
+    @Autowired
+    private ListPageCache listPageCache;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private QnaPostRepository postRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private QnaPost post;
+    private Page<QnaPostResponse> page;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        post = postRepository.save(QnaPost.builder()
+                .authorName("작성자").password("pw").title("캐시 질문").content("내용").isNotice(false)
+                .build());
+        page = qnaService.getAllPosts(PageRequest.of(0, 10));
+        listPageCache.invalidate(ListType.QNA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteById(post.getId());
+        listPageCache.invalidate(ListType.QNA);
+    }
+
+    @Test
+    void hitReturnsSameBytesAsSerializedPage() throws Exception {
+        byte[] built = listPageCache.get(ListType.QNA, 0, loader());
+        byte[] hit = listPageCache.get(ListType.QNA, 0, loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(page.getContent()).extracting(QnaPostResponse::getTitle).contains("캐시 질문");
+        assertThat(hit).isEqualTo(built).isEqualTo(objectMapper.writeValueAsBytes(page));
+    }
+
+    @Test
+    void invalidateAfterCommitClearsOnCommitOnly() {
+        listPageCache.get(ListType.QNA, 0, loader());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            listPageCache.invalidateAfterCommit(ListType.QNA);
+            status.setRollbackOnly();
+        });
+        listPageCache.get(ListType.QNA, 0, loader());
+        assertThat(loads).hasValue(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            listPageCache.invalidateAfterCommit(ListType.QNA);
+            // 커밋 전에는 아직 이전 페이지를 내려준다.
+            listPageCache.get(ListType.QNA, 0, loader());
+            assertThat(loads).hasValue(1);
+        });
+        listPageCache.get(ListType.QNA, 0, loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void buildRacingInvalidationIsNotStored() {
+        byte[] body = listPageCache.get(ListType.QNA, 0, () -> {
+            loads.incrementAndGet();
+            CompletableFuture.runAsync(() -> listPageCache.invalidate(ListType.QNA)).join();
+            return page;
+        });
+        assertThat(body).isNotEmpty();
+
+        listPageCache.get(ListType.QNA, 0, loader());
+        assertThat(loads).hasValue(2);
+        listPageCache.get(ListType.QNA, 0, loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void nonDefaultSizeOrSortBypassesCache() {
+        assertThat(listPageCache.isCacheable(PageRequest.of(0, 10), 10)).isTrue();
+        assertThat(listPageCache.isCacheable(PageRequest.of(2, 10), 10)).isTrue();
+
+        assertThat(listPageCache.isCacheable(PageRequest.of(0, 20), 10)).isFalse();
+        assertThat(listPageCache.isCacheable(PageRequest.of(0, 10, Sort.by("title")), 10)).isFalse();
+        assertThat(listPageCache.isCacheable(PageRequest.of(3, 10), 10)).isFalse();
+    }
+
+    private Supplier<Page<QnaPostResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return page;
+        };
+    }
+}
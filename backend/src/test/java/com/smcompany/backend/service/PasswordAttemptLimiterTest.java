@@ -0,0 +1,49 @@
+package com.smcompany.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordAttemptLimiterTest {
+
+    private final PasswordAttemptLimiter limiter =
+            new PasswordAttemptLimiter(2, 1, 3, 1, 1000, Duration.ofMinutes(1));
+
+    @Test
+    void rejectsWithRetryAfterWhenTargetBucketIsEmpty() {
+        limiter.acquire("10.0.0.1", "post:1");
+        limiter.acquire("10.0.0.1", "post:1");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "post:1"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(Long.parseLong(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)))
+                            .isBetween(1L, 60L);
+                });
+    }
+
+    @Test
+    void bucketsAreKeyedByClientAndTarget() {
+        limiter.acquire("10.0.0.1", "post:1");
+        limiter.acquire("10.0.0.1", "post:1");
+
+        assertThatCode(() -> limiter.acquire("10.0.0.2", "post:1")).doesNotThrowAnyException();
+        assertThatCode(() -> limiter.acquire("10.0.0.1", "post:2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void clientBucketLimitsSprayingAcrossTargets() {
+        limiter.acquire("10.0.0.3", "post:1");
+        limiter.acquire("10.0.0.3", "post:2");
+        limiter.acquire("10.0.0.3", "post:3");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.3", "post:4"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.smcompany.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void verifyUpgradesWeakerHashOnSuccess() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), executor, new SimpleMeterRegistry());
+        AtomicReference<String> upgraded = new AtomicReference<>();
+
+        assertThat(service.verify("secret", weakHash, upgraded::set)).isTrue();
+        assertThat(upgraded.get()).startsWith("$2a$05$");
+        assertThat(service.verify("secret", upgraded.get(), hash -> {
+            throw new AssertionError("이미 최신 비용의 해시는 다시 만들지 않는다");
+        })).isTrue();
+    }
+
+    @Test
+    void failedVerifyDoesNotUpgrade() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), executor, new SimpleMeterRegistry());
+        AtomicReference<String> upgraded = new AtomicReference<>();
+
+        assertThat(service.verify("wrong", weakHash, upgraded::set)).isFalse();
+        assertThat(upgraded.get()).isNull();
+    }
+
+    @Test
+    void blankPasswordUsesPrecomputedDefaultHash() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), executor, new SimpleMeterRegistry());
+        service.init();
+
+        String first = service.hashOrDefault("");
+        assertThat(service.hashOrDefault(null)).isSameAs(first);
+        assertThat(service.verify(PasswordHashingService.DEFAULT_PASSWORD, first, hash -> { })).isTrue();
+    }
+}
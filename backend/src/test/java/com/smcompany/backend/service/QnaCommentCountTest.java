@@ -0,0 +1,131 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.dto.request.QnaCommentRequest;
+import com.smcompany.backend.dto.response.QnaCommentResponse;
+import com.smcompany.backend.dto.response.QnaPostResponse;
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QnaCommentCountTest {
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void commentCountFollowsCreateAndCascadedDelete() {
+        QnaPost post = createPost();
+        QnaCommentResponse root = qnaService.createComment(post.getId(), commentRequest(null), false);
+        QnaCommentResponse reply = qnaService.createComment(post.getId(), commentRequest(root.getId()), false);
+        qnaService.createComment(post.getId(), commentRequest(reply.getId()), false);
+        qnaService.createComment(post.getId(), commentRequest(null), false);
+        assertThat(commentCount(post.getId())).isEqualTo(4);
+
+        qnaService.deleteComment(root.getId());
+
+        assertThat(commentCount(post.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void commentOnLegacyPostCountsExistingComments() {
+        QnaPost post = createPost();
+        qnaService.createComment(post.getId(), commentRequest(null), false);
+        qnaService.createComment(post.getId(), commentRequest(null), false);
+        entityManager.createNativeQuery("UPDATE qna_post SET comment_count = NULL WHERE id = :id")
+                .setParameter("id", post.getId())
+                .executeUpdate();
+
+        // 백필 전에 달린 댓글도 NULL + 1 이 아니라 실제 댓글 수로 채워진다.
+        qnaService.createComment(post.getId(), commentRequest(null), false);
+        assertThat(commentCount(post.getId())).isEqualTo(3);
+
+        qnaService.backfillCommentCounts();
+        assertThat(commentCount(post.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void commentCountUpdateKeepsReferenceCatalogCache() {
+        ReferenceCategory category = ReferenceCategory.builder().name("캐시 확인").sortOrder(0).build();
+        entityManager.persist(category);
+        Reference reference = Reference.builder()
+                .category(category).title("자료").fileName("doc.pdf").filePath("doc.pdf")
+                .build();
+        entityManager.persist(reference);
+        QnaPost post = createPost();
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.find(Reference.class, reference.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Reference.class, reference.getId())).isTrue();
+
+        QnaCommentResponse comment = qnaService.createComment(post.getId(), commentRequest(null), false);
+        qnaService.deleteComment(comment.getId());
+
+        assertThat(cache.contains(Reference.class, reference.getId())).isTrue();
+    }
+
+    @Test
+    void listPageDoesNotLoadComments() {
+        for (int i = 0; i < 5; i++) {
+            QnaPost post = createPost();
+            qnaService.createComment(post.getId(), commentRequest(null), false);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<QnaPostResponse> page = qnaService.getAllPosts(PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).allSatisfy(p -> assertThat(p.getCommentCount()).isEqualTo(1));
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    private int commentCount(Long postId) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(QnaPost.class, postId).getCommentCount();
+    }
+
+    private QnaPost createPost() {
+        QnaPost post = QnaPost.builder()
+                .authorName("작성자").password("pw").title("질문").content("내용").isNotice(false)
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private QnaCommentRequest commentRequest(Long parentId) {
+        QnaCommentRequest request = new QnaCommentRequest();
+        ReflectionTestUtils.setField(request, "authorName", "작성자");
+        ReflectionTestUtils.setField(request, "password", "pw");
+        ReflectionTestUtils.setField(request, "content", "댓글");
+        ReflectionTestUtils.setField(request, "parentId", parentId);
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.dto.response.QnaCommentResponse;
+import com.smcompany.backend.entity.QnaComment;
+import com.smcompany.backend.entity.QnaPost;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QnaCommentTreeQueryCountTest {
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void commentTreeQueryCountDoesNotDependOnDepth() {
+        Long shallow = createThread(1);
+        Long deep = createThread(30);
+
+        assertThat(QueryBudget.of(1).call(() -> qnaService.getComments(shallow))).hasSize(2);
+        assertThat(QueryBudget.of(1).call(() -> qnaService.getComments(deep))).hasSize(2);
+    }
+
+    @Test
+    void commentTreeKeepsNestingAndOrder() {
+        QnaPost post = createPost();
+        QnaComment first = createComment(post, null, "첫 댓글");
+        QnaComment second = createComment(post, null, "두번째 댓글");
+        QnaComment reply = createComment(post, first, "답글");
+        createComment(post, reply, "답글의 답글");
+        createComment(post, first, "두번째 답글");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<QnaCommentResponse> tree = qnaService.getComments(post.getId());
+
+        assertThat(tree).extracting(QnaCommentResponse::getId).containsExactly(first.getId(), second.getId());
+        assertThat(tree.get(0).getChildren()).extracting(QnaCommentResponse::getContent)
+                .containsExactly("답글", "두번째 답글");
+        assertThat(tree.get(0).getChildren().get(0).getChildren()).extracting(QnaCommentResponse::getContent)
+                .containsExactly("답글의 답글");
+        assertThat(tree.get(1).getChildren()).isEmpty();
+    }
+
+    @Test
+    void postListAndCommentsStayWithinQueryBudget() {
+        for (int i = 0; i < 5; i++) {
+            createThread(3);
+        }
+        Long postId = createThread(5);
+
+        QueryBudget.of(2).run(() -> qnaService.getAllPosts(PageRequest.of(0, 10)));
+        var comments = QueryBudget.of(1).call(() -> qnaService.getComments(postId));
+
+        assertThat(comments).hasSize(2);
+    }
+
+    /** 깊이 depth 의 댓글 사슬과 각 단계의 형제 댓글을 가진 게시글을 만든다. */
+    private Long createThread(int depth) {
+        QnaPost post = createPost();
+        QnaComment parent = null;
+        for (int i = 0; i < depth; i++) {
+            createComment(post, parent, "형제 " + i);
+            parent = createComment(post, parent, "깊이 " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return post.getId();
+    }
+
+    private QnaPost createPost() {
+        QnaPost post = QnaPost.builder()
+                .authorName("작성자").password("pw").title("질문").content("내용").isNotice(false)
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private QnaComment createComment(QnaPost post, QnaComment parent, String content) {
+        QnaComment comment = QnaComment.builder()
+                .post(post).parent(parent).authorName("작성자").password("pw").content(content).isAdmin(false)
+                .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+}
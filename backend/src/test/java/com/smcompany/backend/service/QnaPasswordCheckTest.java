@@ -0,0 +1,69 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/** 비밀번호 확인은 해시 풀을 기다리는 동안 트랜잭션(DB 커넥션)을 잡지 않는다. 커밋된 데이터로 확인한다. */
+@SpringBootTest(properties = "app.password.bcrypt-strength=5")
+@ActiveProfiles("test")
+class QnaPasswordCheckTest {
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private QnaPostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private PasswordHashingService passwordHashingService;
+
+    private QnaPost post;
+
+    @BeforeEach
+    void setUp() {
+        post = postRepository.save(QnaPost.builder()
+                .authorName("작성자").password(new BCryptPasswordEncoder(4).encode("pw"))
+                .title("질문").content("내용").isNotice(false)
+                .build());
+        doAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).verify(any(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteById(post.getId());
+    }
+
+    @Test
+    void verifiesOutsideTransactionAndStoresUpgradedHash() {
+        assertThat(qnaService.checkPostPassword(post.getId(), "wrong")).isFalse();
+        assertThat(storedHash()).startsWith("$2a$04$");
+
+        assertThat(qnaService.checkPostPassword(post.getId(), "pw")).isTrue();
+        assertThat(storedHash()).startsWith("$2a$05$");
+        assertThat(qnaService.checkPostPassword(post.getId(), "pw")).isTrue();
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject("SELECT password FROM qna_post WHERE id = ?", String.class, post.getId());
+    }
+}
@@ -0,0 +1,128 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaPostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class QnaSearchIndexTest {
+
+    /** 트랜잭션 밖에서는 색인 변경이 바로 반영된다. 재색인을 쓰지 않으므로 저장소는 필요 없다. */
+    private final QnaSearchIndex index = new QnaSearchIndex(null);
+
+    @Test
+    void tokenizesWordsIntoBigramsAndUnigrams() {
+        assertThat(QnaSearchIndex.tokenize("안전교육 OK", false))
+                .containsExactlyInAnyOrder("안전", "전교", "교육", "ok");
+        assertThat(QnaSearchIndex.tokenize("안전 a", true))
+                .containsExactlyInAnyOrder("안", "전", "안전", "a");
+        assertThat(QnaSearchIndex.tokenize(null, true)).isEmpty();
+    }
+
+    @Test
+    void matchesKeywordAsSubstringOfTitleOrContent() {
+        index.indexAfterCommit(post(1L, "현장 안전교육 일정", "내용", false, 1));
+        index.indexAfterCommit(post(2L, "질문", "다음 주 안전교육은 어디서 하나요?", false, 2));
+        index.indexAfterCommit(post(3L, "Spring 설정", "내용", false, 3));
+
+        assertThat(index.search("안전교육")).containsExactly(2L, 1L);
+        assertThat(index.search("spring")).containsExactly(3L);
+        assertThat(index.search("교")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void doesNotMatchScatteredTokens() {
+        // "안전", "전교", "교육" 토큰을 모두 갖지만 "안전교육" 이 이어서 나오지는 않는다.
+        index.indexAfterCommit(post(1L, "안전 수칙", "전교 행사와 교육 안내", false, 1));
+        // 제목과 본문 경계에 걸친 경우도 LIKE 와 같이 일치하지 않는다.
+        index.indexAfterCommit(post(2L, "안전", "교육", false, 2));
+        index.indexAfterCommit(post(3L, "안전교육 공지", "내용", false, 3));
+
+        assertThat(index.search("안전교육")).containsExactly(3L);
+        assertThat(index.search("안전 교육")).isEmpty();
+    }
+
+    @Test
+    void ordersNoticesFirstThenNewest() {
+        index.indexAfterCommit(post(1L, "교육 안내", "내용", false, 1));
+        index.indexAfterCommit(post(2L, "교육 공지", "내용", true, 0));
+        index.indexAfterCommit(post(3L, "교육 질문", "내용", false, 2));
+
+        assertThat(index.search("교육")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void reindexesUpdatedPostAndForgetsOldTokens() {
+        QnaPost post = post(1L, "안전교육 일정", "내용", false, 1);
+        index.indexAfterCommit(post);
+
+        post.update("장비 점검", "변경된 내용", false);
+        index.indexAfterCommit(post);
+
+        assertThat(index.search("안전교육")).isEmpty();
+        assertThat(index.search("장비")).containsExactly(1L);
+    }
+
+    @Test
+    void removesDeletedPost() {
+        index.indexAfterCommit(post(1L, "안전교육", "내용", false, 1));
+        index.indexAfterCommit(post(2L, "안전교육 2차", "내용", false, 2));
+
+        index.removeAfterCommit(1L);
+
+        assertThat(index.search("안전교육")).containsExactly(2L);
+    }
+
+    @Test
+    void keywordWithoutTokensFallsBackToSubstringScan() {
+        index.indexAfterCommit(post(1L, "문의 (급함)", "내용", false, 1));
+        index.indexAfterCommit(post(2L, "문의", "내용", false, 2));
+
+        assertThat(index.search("(")).containsExactly(1L);
+        assertThat(index.search("")).isEmpty();
+    }
+
+    @Test
+    void rebuildReadsChunksAfterLastIdWithoutCounting() {
+        QnaPostRepository repository = mock(QnaPostRepository.class);
+        List<QnaPost> firstChunk = LongStream.rangeClosed(1, QnaSearchIndex.REBUILD_CHUNK_SIZE)
+                .mapToObj(id -> post(id, "글 " + id, "내용", false, (int) id))
+                .toList();
+        long lastId = QnaSearchIndex.REBUILD_CHUNK_SIZE;
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(firstChunk);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(lastId), any()))
+                .thenReturn(List.of(post(lastId + 1, "안전교육", "내용", false, 0)));
+        QnaSearchIndex rebuilt = new QnaSearchIndex(repository);
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.isReady()).isTrue();
+        assertThat(rebuilt.search("안전교육")).containsExactly(lastId + 1);
+        assertThat(rebuilt.search("글 1000")).containsExactly(lastId);
+        verify(repository, times(2)).findByIdGreaterThanOrderByIdAsc(any(), any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    private QnaPost post(Long id, String title, String content, boolean notice, int minutes) {
+        QnaPost post = QnaPost.builder()
+                .authorName("작성자").password("pw").title(title).content(content).isNotice(notice)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "createdAt", LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(minutes));
+        return post;
+    }
+}
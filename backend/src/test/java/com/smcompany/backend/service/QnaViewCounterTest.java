@@ -0,0 +1,109 @@
+package com.smcompany.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.smcompany.backend.entity.QnaPost;
+import com.smcompany.backend.repository.QnaPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 고유 조회자 집계: 같은 지문의 반복 조회, 반영 전에 캐시에서 밀려난 게시글. 커밋된 데이터로 확인한다. */
+@SpringBootTest(properties = {
+        "app.view-count.max-posts=1",
+        "app.view-count.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class QnaViewCounterTest {
+
+    @Autowired
+    private QnaViewCounter viewCounter;
+
+    @Autowired
+    private QnaPostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private QnaPost first;
+    private QnaPost second;
+
+    @BeforeEach
+    void setUp() {
+        first = postRepository.save(post("첫 번째"));
+        second = postRepository.save(post("두 번째"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCounter.remove(first.getId());
+        viewCounter.remove(second.getId());
+        postRepository.deleteAllById(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    void repeatedViewerDoesNotRaiseCount() {
+        assertThat(viewCounter.recordView(first.getId(), "10.0.0.1|Mozilla")).isEqualTo(1);
+        for (int i = 0; i < 20; i++) {
+            assertThat(viewCounter.recordView(first.getId(), "10.0.0.1|Mozilla")).isEqualTo(1);
+        }
+        assertThat(viewCounter.recordView(first.getId(), "10.0.0.2|Mozilla")).isEqualTo(2);
+
+        viewCounter.flush();
+
+        assertThat(storedViewCount(first.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void postEvictedBeforeFlushKeepsItsViews() {
+        viewCounter.recordView(first.getId(), "10.0.0.1|Mozilla");
+        viewCounter.recordView(first.getId(), "10.0.0.2|Mozilla");
+        viewCounter.recordView(second.getId(), "10.0.0.3|Mozilla");
+
+        // max-posts=1 이므로 정리 시 둘 중 하나는 반영 전에 밀려난다.
+        states().cleanUp();
+        assertThat(evictedDirty()).hasSize(1);
+
+        viewCounter.flush();
+
+        assertThat(storedViewCount(first.getId())).isEqualTo(2);
+        assertThat(storedViewCount(second.getId())).isEqualTo(1);
+        assertThat(evictedDirty()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM qna_post_view_sketch WHERE post_id IN (?, ?)", Integer.class,
+                first.getId(), second.getId())).isEqualTo(2);
+
+        // 밀려난 게시글을 다시 조회하면 DB 의 스케치에서 이어서 센다.
+        assertThat(viewCounter.recordView(first.getId(), "10.0.0.1|Mozilla")).isEqualTo(2);
+        assertThat(viewCounter.recordView(second.getId(), "10.0.0.3|Mozilla")).isEqualTo(1);
+    }
+
+    private long storedViewCount(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM qna_post WHERE id = ?", Long.class, postId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Long, ?> states() {
+        return (Cache<Long, ?>) ReflectionTestUtils.getField(viewCounter, "states");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> evictedDirty() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(viewCounter, "evictedDirty");
+    }
+
+    private static QnaPost post(String title) {
+        return QnaPost.builder()
+                .authorName("작성자").password("pw").title(title).content("내용").isNotice(false)
+                .build();
+    }
+}
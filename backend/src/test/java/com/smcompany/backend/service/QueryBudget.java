@@ -0,0 +1,47 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.config.QueryStats;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 한 번이 실행할 수 있는 SQL 수의 상한.
+ * 상한을 넘으면 실행된 SQL 목록과 함께 실패하므로 N+1 회귀를 바로 확인할 수 있다.
+ * <pre>{@code QueryBudget.of(4).call(() -> referenceService.getReference(id));}</pre>
+ */
+final class QueryBudget {
+
+    private final int maxQueries;
+
+    private QueryBudget(int maxQueries) {
+        this.maxQueries = maxQueries;
+    }
+
+    static QueryBudget of(int maxQueries) {
+        return new QueryBudget(maxQueries);
+    }
+
+    void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    <T> T call(Supplier<T> action) {
+        QueryStats stats = QueryStats.start(Long.MAX_VALUE, true);
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            stats.stop();
+        }
+        assertThat(stats.getCount())
+                .as("SQL %d건 (상한 %d건):%n%s", stats.getCount(), maxQueries,
+                        String.join(System.lineSeparator(), stats.getStatements()))
+                .isLessThanOrEqualTo(maxQueries);
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.repository.ReferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceSearchServiceTest {
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final Page<Long> likePage = new PageImpl<>(List.of(2L), pageable, 1);
+
+    private final ReferenceRepository referenceRepository = mock(ReferenceRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private ReferenceSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new ReferenceSearchService(referenceRepository, jdbcTemplate);
+        ReflectionTestUtils.setField(searchService, "ngramTokenSize", 2);
+        ReflectionTestUtils.setField(searchService, "fullTextEnabled", true);
+        ReflectionTestUtils.setField(searchService, "fullTextAvailable", true);
+        ReflectionTestUtils.setField(searchService, "fullTextRetryAfter", Duration.ofMinutes(1));
+        when(referenceRepository.findIdsByKeyword(anyString(), any())).thenReturn(likePage);
+    }
+
+    @Test
+    void failedFullTextQueryFallsBackWithinTheSameRequest() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        assertThat(searchService.searchIds("안전교육", pageable)).isSameAs(likePage);
+    }
+
+    @Test
+    void fullTextIsSkippedDuringCooldownAndRetriedAfterIt() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(List.of(1L));
+
+        searchService.searchIds("안전교육", pageable);
+        assertThat(searchService.searchIds("안전교육", pageable)).isSameAs(likePage);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any(Object[].class));
+
+        ReflectionTestUtils.setField(searchService, "fullTextSuspendedUntil", 0L);
+        assertThat(searchService.searchIds("안전교육", pageable).getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void shortKeywordUsesLikeSearch() {
+        assertThat(searchService.searchIds("안", pageable)).isSameAs(likePage);
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(Object[].class));
+    }
+}
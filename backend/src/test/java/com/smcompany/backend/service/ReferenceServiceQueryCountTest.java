@@ -0,0 +1,121 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import com.smcompany.backend.entity.ReferenceFile;
+import com.smcompany.backend.entity.ReferenceImage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReferenceServiceQueryCountTest {
+
+    @Autowired
+    private ReferenceService referenceService;
+
+    @Autowired
+    private ReferenceSearchService referenceSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ReferenceCategory category;
+
+    @BeforeEach
+    void setUp() {
+        category = ReferenceCategory.builder().name("안전교육").sortOrder(0).build();
+        entityManager.persist(category);
+
+        for (int i = 0; i < 20; i++) {
+            Reference reference = Reference.builder()
+                    .category(category)
+                    .title("자료 " + i)
+                    .description("설명 " + i)
+                    .fileName("file" + i + ".pdf")
+                    .filePath("stored" + i + ".pdf")
+                    .build();
+            entityManager.persist(reference);
+            for (int j = 0; j < 3; j++) {
+                entityManager.persist(ReferenceFile.builder()
+                        .reference(reference).fileName("extra" + j + ".pdf").filePath("extra" + i + "_" + j)
+                        .sortOrder(j).build());
+                entityManager.persist(ReferenceImage.builder()
+                        .reference(reference).fileName("img" + j + ".png").filePath("img" + i + "_" + j)
+                        .sortOrder(j).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listPageQueryCountDoesNotDependOnPageSize() {
+        var smallPage = QueryBudget.of(4).call(() -> referenceService.getAllReferences(PageRequest.of(0, 2)));
+        entityManager.clear();
+        var largePage = QueryBudget.of(4).call(() -> referenceService.getAllReferences(PageRequest.of(0, 10)));
+
+        assertThat(smallPage.getContent()).hasSize(2);
+        assertThat(largePage.getContent()).hasSize(10);
+    }
+
+    @Test
+    void categoryAndSearchPagesUseTheSameFetchPlan() {
+        QueryBudget.of(4).run(() ->
+                referenceService.getReferencesByCategory(category.getId(), PageRequest.of(0, 10)));
+        entityManager.clear();
+        QueryBudget.of(4).run(() -> referenceService.searchReferences("자료", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void failedFullTextSearchFallsBackInTheSameTransaction() {
+        // H2 는 MATCH ... AGAINST 를 지원하지 않으므로 전문 검색 쿼리가 실패한다.
+        ReflectionTestUtils.setField(referenceSearchService, "fullTextAvailable", true);
+        try {
+            var page = referenceService.searchReferences("자료", PageRequest.of(0, 10));
+
+            assertThat(page.getTotalElements()).isEqualTo(20);
+            assertThat(entityManager.unwrap(Session.class).getTransaction().getRollbackOnly()).isFalse();
+        } finally {
+            ReflectionTestUtils.setField(referenceSearchService, "fullTextAvailable", false);
+            ReflectionTestUtils.setField(referenceSearchService, "fullTextSuspendedUntil", 0L);
+        }
+    }
+
+    @Test
+    void batchLoadedPageKeepsFilesAndImages() {
+        var page = referenceService.getAllReferences(PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(ref -> {
+            assertThat(ref.getCategoryName()).isEqualTo("안전교육");
+            assertThat(ref.getFiles()).hasSize(3);
+            assertThat(ref.getImages()).hasSize(3);
+        });
+    }
+
+    @Test
+    void readPathsStayWithinQueryBudget() {
+        entityManager.clear();
+        var page = QueryBudget.of(4).call(() -> referenceService.getAllReferences(PageRequest.of(0, 10)));
+        QueryBudget.of(4).run(() -> referenceService.getReferencesByCategory(category.getId(), PageRequest.of(0, 10)));
+
+        entityManager.clear();
+        Long id = page.getContent().get(0).getId();
+        var detail = QueryBudget.of(4).call(() -> referenceService.getReference(id));
+
+        assertThat(detail.getFiles()).hasSize(3);
+        assertThat(detail.getImages()).hasSize(3);
+    }
+}
@@ -0,0 +1,165 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.entity.Reference;
+import com.smcompany.backend.entity.ReferenceCategory;
+import com.smcompany.backend.entity.ReferenceFile;
+import com.smcompany.backend.entity.ReferenceImage;
+import com.smcompany.backend.repository.ReferenceCategoryRepository;
+import com.smcompany.backend.repository.ReferenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 자료/추가 첨부파일/갤러리 이미지가 공유하는 blob 의 참조 수 확인과 유예 후 정리. 커밋된 데이터로 확인한다. */
+@SpringBootTest(properties = {
+        "file.release-grace-ms=200",
+        "file.release-sweep-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class StoredFileReleaserTest {
+
+    private static final long AFTER_GRACE_MS = 400;
+
+    @Autowired
+    private StoredFileReleaser storedFileReleaser;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private ReferenceRepository referenceRepository;
+
+    @Autowired
+    private ReferenceCategoryRepository categoryRepository;
+
+    /** 테스트마다 다른 내용이어야 다른 테스트의 blob 과 공유되지 않는다. */
+    private final String testContent = UUID.randomUUID().toString();
+
+    private ReferenceCategory category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(ReferenceCategory.builder().name("공유 테스트").sortOrder(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        referenceRepository.deleteAll(referenceRepository.findAll().stream()
+                .filter(reference -> reference.getCategory().getId().equals(category.getId()))
+                .toList());
+        categoryRepository.delete(category);
+    }
+
+    @Test
+    void sharedBlobIsKeptUntilLastReferenceIsGone() throws Exception {
+        String file = fileStorageService.storeFile(upload("doc.pdf"));
+        String image = fileStorageService.storeThumbnail(upload("img.png"));
+        Path filePath = fileStorageService.resolveFile(file);
+        Path imagePath = fileStorageService.resolveThumbnail(image);
+
+        // 첫 자료는 본문 파일/썸네일로, 둘째 자료는 추가 첨부파일/갤러리 이미지로 같은 blob 을 참조
+        Reference first = referenceRepository.save(reference(file, image));
+        Reference second = reference(fileStorageService.storeFile(upload("other.pdf")), null);
+        second.getFiles().add(ReferenceFile.builder()
+                .reference(second).fileName("doc.pdf").filePath(file).sortOrder(0).build());
+        second.attachImages(List.of(ReferenceImage.builder()
+                .reference(second).fileName("img.png").filePath(image).sortOrder(0).build()));
+        second = referenceRepository.save(second);
+
+        referenceRepository.delete(first);
+        releaseAfterGrace(file, image);
+        assertThat(filePath).exists();
+        assertThat(imagePath).exists();
+
+        referenceRepository.delete(referenceRepository.findById(second.getId()).orElseThrow());
+        releaseAfterGrace(file, image);
+        assertThat(filePath).doesNotExist();
+        assertThat(imagePath).doesNotExist();
+    }
+
+    @Test
+    void blobSharedWithinGraceIsDeletedByLaterSweep() throws Exception {
+        String file = fileStorageService.storeFile(upload("doc.pdf"));
+        Path filePath = fileStorageService.resolveFile(file);
+        long modified = Files.getLastModifiedTime(filePath).toMillis();
+
+        // 재공유해도 불변 blob 의 수정 시각(ETag/Last-Modified)은 그대로다.
+        Thread.sleep(20);
+        assertThat(fileStorageService.storeFile(upload("doc.pdf"))).isEqualTo(file);
+        assertThat(Files.getLastModifiedTime(filePath).toMillis()).isEqualTo(modified);
+
+        storedFileReleaser.releaseUnreferenced(Set.of(file), Set.of());
+        assertThat(filePath).exists();
+        assertThat(storedFileReleaser.deferredCount()).isEqualTo(1);
+
+        Thread.sleep(AFTER_GRACE_MS);
+        storedFileReleaser.sweep();
+        assertThat(filePath).doesNotExist();
+        assertThat(storedFileReleaser.deferredCount()).isZero();
+    }
+
+    @Test
+    void identicalUploadKeepsExistingBlobFile() throws Exception {
+        String file = fileStorageService.storeFile(upload("doc.pdf"));
+        Path filePath = fileStorageService.resolveFile(file);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(1_000_000_000_000L));
+        Object fileKey = Files.readAttributes(filePath, BasicFileAttributes.class).fileKey();
+
+        assertThat(fileStorageService.storeFile(upload("doc.pdf"))).isEqualTo(file);
+
+        BasicFileAttributes after = Files.readAttributes(filePath, BasicFileAttributes.class);
+        assertThat(after.lastModifiedTime().toMillis()).isEqualTo(1_000_000_000_000L);
+        assertThat(after.fileKey()).isEqualTo(fileKey);
+
+        Thread.sleep(AFTER_GRACE_MS);
+        storedFileReleaser.releaseUnreferenced(Set.of(file), Set.of());
+        assertThat(filePath).doesNotExist();
+    }
+
+    @Test
+    void deferredBlobReferencedAgainIsKept() throws Exception {
+        String file = fileStorageService.storeFile(upload("doc.pdf"));
+        Path filePath = fileStorageService.resolveFile(file);
+
+        storedFileReleaser.releaseUnreferenced(Set.of(file), Set.of());
+        referenceRepository.save(reference(file, null));
+
+        Thread.sleep(AFTER_GRACE_MS);
+        storedFileReleaser.sweep();
+        assertThat(filePath).exists();
+        assertThat(storedFileReleaser.deferredCount()).isZero();
+    }
+
+    /** 유예 시간이 지난 뒤 참조 수를 확인하고 정리한다. */
+    private void releaseAfterGrace(String file, String image) throws InterruptedException {
+        Thread.sleep(AFTER_GRACE_MS);
+        storedFileReleaser.releaseUnreferenced(List.of(file), List.of(image));
+        storedFileReleaser.sweep();
+    }
+
+    private Reference reference(String file, String thumbnail) {
+        return Reference.builder()
+                .category(category).title("자료").fileName("doc.pdf").filePath(file).thumbnailPath(thumbnail)
+                .build();
+    }
+
+    private MockMultipartFile upload(String name) {
+        return new MockMultipartFile("file", name, null,
+                (name + testContent).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,74 @@
+package com.smcompany.backend.service;
+
+import com.smcompany.backend.service.ThumbnailVariantService.VariantChoice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ThumbnailVariantServiceTest {
+
+    private static final String ORIGINAL = "abc.png";
+
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private ThumbnailVariantService variantService;
+
+    @BeforeEach
+    void setUp() {
+        variantService = new ThumbnailVariantService(fileStorageService, mock(ThreadPoolTaskExecutor.class));
+        ReflectionTestUtils.setField(variantService, "widths", new int[]{160, 480, 1024});
+        ReflectionTestUtils.setField(variantService, "pendingWindow", Duration.ofMinutes(2));
+    }
+
+    @Test
+    void missingVariantOfOldOriginalIsFinalAndNotStatAgain() {
+        when(fileStorageService.thumbnailExists(anyString())).thenReturn(false);
+        long oldOriginal = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+
+        VariantChoice first = variantService.resolveVariant(ORIGINAL, oldOriginal, 400);
+        VariantChoice second = variantService.resolveVariant(ORIGINAL, oldOriginal, 400);
+
+        assertThat(first.variant()).isNull();
+        assertThat(first.pending()).isFalse();
+        assertThat(second).isEqualTo(first);
+        verify(fileStorageService, times(1)).thumbnailExists("abc_w480.png");
+    }
+
+    @Test
+    void missingVariantOfFreshOriginalIsPendingAndRechecked() {
+        when(fileStorageService.thumbnailExists(anyString())).thenReturn(false);
+        long freshOriginal = System.currentTimeMillis();
+
+        VariantChoice first = variantService.resolveVariant(ORIGINAL, freshOriginal, 400);
+        assertThat(first.variant()).isNull();
+        assertThat(first.pending()).isTrue();
+
+        when(fileStorageService.thumbnailExists("abc_w480.png")).thenReturn(true);
+        when(fileStorageService.getThumbnailLastModified("abc_w480.png")).thenReturn(42L);
+
+        assertThat(variantService.resolveVariant(ORIGINAL, freshOriginal, 400))
+                .isEqualTo(new VariantChoice("abc_w480.png", 42L, false));
+    }
+
+    @Test
+    void deletingVariantsForgetsResolvedChoice() {
+        when(fileStorageService.thumbnailExists("abc_w160.png")).thenReturn(true);
+        when(fileStorageService.getThumbnailLastModified("abc_w160.png")).thenReturn(7L);
+
+        assertThat(variantService.resolveVariant(ORIGINAL, 0L, 100).variant()).isEqualTo("abc_w160.png");
+
+        variantService.deleteVariants(ORIGINAL);
+        when(fileStorageService.thumbnailExists("abc_w160.png")).thenReturn(false);
+
+        assertThat(variantService.resolveVariant(ORIGINAL, 0L, 100).variant()).isNull();
+    }
+}
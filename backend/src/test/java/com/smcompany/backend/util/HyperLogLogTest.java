@@ -0,0 +1,77 @@
+package com.smcompany.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    /** precision 10 의 표준 오차(약 3.25%)의 3배 */
+    private static final double MAX_RELATIVE_ERROR = 0.0975;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000, 10_000, 100_000})
+    void estimateStaysWithinStatedError(int cardinality) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < cardinality; i++) {
+            sketch.offer("viewer-" + i);
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(cardinality, within(cardinality * MAX_RELATIVE_ERROR));
+    }
+
+    @Test
+    void repeatedValueDoesNotRaiseEstimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.offer("127.0.0.1|Mozilla")).isTrue();
+        long estimate = sketch.estimate();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sketch.offer("127.0.0.1|Mozilla")).isFalse();
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(estimate).isEqualTo(1);
+    }
+
+    @Test
+    void mergeEstimatesUnionAndIgnoresOverlap() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog both = new HyperLogLog();
+        for (int i = 0; i < 6_000; i++) {
+            first.offer("viewer-" + i);
+            both.offer("viewer-" + i);
+        }
+        for (int i = 4_000; i < 10_000; i++) {
+            second.offer("viewer-" + i);
+            both.offer("viewer-" + i);
+        }
+
+        first.merge(second);
+
+        // 레지스터별 최댓값이므로 같은 값을 모두 넣은 스케치와 정확히 같다.
+        assertThat(first.toBytes()).isEqualTo(both.toBytes());
+        assertThat((double) first.estimate()).isCloseTo(10_000, within(10_000 * MAX_RELATIVE_ERROR));
+
+        first.merge(second);
+        assertThat(first.toBytes()).isEqualTo(both.toBytes());
+    }
+
+    @Test
+    void registersRoundTripThroughBytes() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 500; i++) {
+            sketch.offer("viewer-" + i);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(HyperLogLog.fromBytes(new byte[3]).estimate()).isZero();
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+    }
+}